@@ -0,0 +1,25 @@
+package inf112.roborally.game;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks like the JMH command line does, with the GC profiler always on, so every result
+ * comes with its allocation rate next to the ops/s. Takes the usual JMH options, e.g. a regex of benchmarks to run:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar BoardBenchmark -p robots=8
+ * </pre>
+ */
+public class RunBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,55 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One phase of a round: every robot plays its card, then the board moves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    /**
+     * What putting the robots back costs, to subtract from the benchmarks below.
+     */
+    @Benchmark
+    public long reset(BoardFixture fixture) {
+        fixture.reset();
+        return fixture.board.getStateHash();
+    }
+
+    @Benchmark
+    public long boardMoves(BoardFixture fixture) {
+        fixture.reset();
+        fixture.board.boardMoves();
+        return fixture.board.getStateHash();
+    }
+
+    /**
+     * All five registers of every robot, in the order the robots were added.
+     */
+    @Benchmark
+    public long executeCard(BoardFixture fixture) {
+        fixture.reset();
+        List<Robot> players = fixture.players;
+        for (int phase = 0; phase < 5; phase++) {
+            for (int i = 0; i < players.size(); i++) {
+                players.get(i).getRegisters().executeCard(phase);
+            }
+        }
+        return fixture.board.getStateHash();
+    }
+}
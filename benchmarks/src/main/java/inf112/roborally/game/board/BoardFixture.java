@@ -0,0 +1,104 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.simulation.BatchRunner;
+import inf112.roborally.game.tools.GameRandom;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A board with robots on it for the benchmarks. The robots are scattered over the board with random directions
+ * and a full program of random cards, the same every run.
+ * <p>
+ * Benchmarks that change the robots call {@link #reset()} first, so every invocation starts from the same state.
+ * {@code BoardBenchmark.reset} measures what that costs on its own.
+ */
+@State(Scope.Thread)
+public class BoardFixture {
+    @Param({"2", "8", "32"})
+    public int robots;
+
+    @Param({"vault"})
+    public String map;
+
+    public RulesBoard<Robot> board;
+    public List<Robot> players;
+    private StateArena start;
+
+    @Setup
+    public void setup() {
+        board = new RulesBoard<>();
+        board.createBoard(BatchRunner.findMap(map));
+        int[][] flags = BatchRunner.defaultFlags(board.getGrid());
+        for (int i = 0; i < flags.length; i++) {
+            board.getFlags().add(new Flag(flags[i][0], flags[i][1], i + 1));
+        }
+        board.updateFlagDistances();
+        board.findLaserGuns();
+
+        GameRandom random = new GameRandom(42);
+        List<int[]> cells = freeCells(random);
+        if (cells.size() < robots) {
+            throw new IllegalArgumentException(map + " has room for " + cells.size() + " robots");
+        }
+        for (int i = 0; i < robots; i++) {
+            Direction direction = packed() ? Direction.EAST : Direction.fromInt(random.nextInt(4));
+            Robot robot = new Robot("Robot" + (i + 1), direction, board);
+            board.addPlayer(robot);
+            robot.move(cells.get(i)[0], cells.get(i)[1]);
+            robot.getBackup().moveToPlayerPosition();
+            for (int register = 0; register < ProgramRegisters.NUMBER_OF_REGISTERS; register++) {
+                robot.getRegisters().placeCard(ProgramCard.fromId(random.nextInt(ProgramCard.DECK_SIZE)));
+            }
+        }
+        players = board.getPlayers();
+
+        start = new StateArena(board.getRobotSlotCount(), 1);
+        board.exportState(start, 0);
+    }
+
+    /**
+     * @return true to put the robots next to each other in rows, all facing east, instead of scattering them.
+     */
+    protected boolean packed() {
+        return false;
+    }
+
+    /**
+     * Every cell a robot can stand on that is not a flag, in row order if packed, otherwise shuffled.
+     */
+    private List<int[]> freeCells(GameRandom random) {
+        BoardGrid grid = board.getGrid();
+        List<int[]> cells = new ArrayList<>();
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                if (!grid.isOffTheBoard(x, y) && !isFlag(x, y)) cells.add(new int[]{x, y});
+            }
+        }
+        if (!packed()) random.shuffle(cells);
+        return cells;
+    }
+
+    private boolean isFlag(int x, int y) {
+        for (Flag flag : board.getFlags()) {
+            if (flag.getX() == x && flag.getY() == y) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Puts every robot back the way it was after setup.
+     */
+    public void reset() {
+        board.importState(start, 0);
+    }
+}
@@ -0,0 +1,39 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.simulation.BatchRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading every map that ships with the game, the way the game does when a game starts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CreateBoardBenchmark {
+    @Param({"around_the_world", "lasertest", "launchpad1", "launchpad2", "space_bug", "space_bug2",
+            "spiralmarathon", "testMap", "vault"})
+    public String map;
+
+    @Benchmark
+    public RulesBoard<Robot> createBoard() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard(BatchRunner.findMap(map));
+        board.findLaserGuns();
+        return board;
+    }
+}
@@ -0,0 +1,56 @@
+package inf112.roborally.game.objects;
+
+import inf112.roborally.game.board.BoardFixture;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.player.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lasers fire once every phase, from the board and from every robot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaserBenchmark {
+
+    /**
+     * Every laser mounted on the board.
+     */
+    @Benchmark
+    public int boardLaserFire(BoardFixture fixture) {
+        fixture.reset();
+        RulesBoard<Robot> board = fixture.board;
+        List<BoardLaser> lasers = board.getBoardLasers();
+        int hits = 0;
+        for (int i = 0; i < lasers.size(); i++) {
+            if (lasers.get(i).fire(board) != null) hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * The laser cannon of every robot.
+     */
+    @Benchmark
+    public int laserCannonFire(BoardFixture fixture) {
+        fixture.reset();
+        RulesBoard<Robot> board = fixture.board;
+        List<Robot> players = fixture.players;
+        int hits = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getLaserCannon().fire(board) != null) hits++;
+        }
+        return hits;
+    }
+}
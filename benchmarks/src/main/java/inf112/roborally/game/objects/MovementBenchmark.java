@@ -0,0 +1,61 @@
+package inf112.roborally.game.objects;
+
+import inf112.roborally.game.board.BoardFixture;
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The checks every step of a move goes through. Lives in the package of {@link MovableGameObject}
+ * to reach {@code canPush}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Every robot in every direction.
+     */
+    @Benchmark
+    public int canGo(BoardFixture fixture) {
+        BoardGrid grid = fixture.board.getGrid();
+        List<Robot> players = fixture.players;
+        int open = 0;
+        for (int i = 0; i < players.size(); i++) {
+            for (Direction direction : DIRECTIONS) {
+                if (players.get(i).canGo(direction, grid)) open++;
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Every robot pushes the robots in front of it one step east, from the back of each row to the front.
+     */
+    @Benchmark
+    public int canPushChain(PushFixture fixture) {
+        fixture.reset();
+        RulesBoard<Robot> board = fixture.board;
+        List<Robot> players = fixture.players;
+        int pushed = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).canPush(Direction.EAST, board)) pushed++;
+        }
+        return pushed;
+    }
+}
@@ -0,0 +1,17 @@
+package inf112.roborally.game.objects;
+
+import inf112.roborally.game.board.BoardFixture;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Robots standing next to each other in rows and facing east, so every push moves the rest of the row.
+ */
+@State(Scope.Thread)
+public class PushFixture extends BoardFixture {
+
+    @Override
+    protected boolean packed() {
+        return true;
+    }
+}
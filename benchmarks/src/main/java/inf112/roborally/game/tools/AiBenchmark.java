@@ -0,0 +1,52 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.player.Robot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiBenchmark {
+
+    /**
+     * Every robot picks its cards, then hands them back so the next invocation starts with a full hand again.
+     */
+    @Benchmark
+    public int makeDecisionsForRobos(AiFixture fixture) {
+        AiRobo.makeDecisionsForRobos(fixture.players, fixture.random);
+        return returnCards(fixture.players);
+    }
+
+    /**
+     * The same with every program of every hand played out.
+     */
+    @Benchmark
+    public int exhaustiveSearch(AiFixture fixture) {
+        AiRobo.makeDecisionsForRobos(fixture.players, fixture.random, AiMode.EXHAUSTIVE);
+        return returnCards(fixture.players);
+    }
+
+    private int returnCards(List<Robot> players) {
+        int placed = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Robot robot = players.get(i);
+            if (robot.getRegisters().isFull()) placed++;
+            robot.returnCards();
+            robot.setPlayerState(PlayerState.OPERATIONAL);
+        }
+        return placed;
+    }
+}
@@ -0,0 +1,28 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.BoardFixture;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+import inf112.roborally.game.player.Robot;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Robots with a full hand of nine cards and empty registers, waiting for the AI.
+ */
+@State(Scope.Thread)
+public class AiFixture extends BoardFixture {
+    public GameRandom random;
+
+    @Setup
+    public void dealHands() {
+        random = new GameRandom(7);
+        for (Robot robot : players) {
+            robot.returnCards();
+            while (robot.getHand().size() < ProgramRegisters.MAX_NUMBER_OF_CARDS) {
+                robot.getHand().receiveCard(ProgramCard.fromId(random.nextInt(ProgramCard.DECK_SIZE)));
+            }
+        }
+    }
+}
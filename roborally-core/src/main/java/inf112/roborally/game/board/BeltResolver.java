@@ -0,0 +1,127 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+
+import java.util.Arrays;
+
+/**
+ * Moves every robot on a conveyor belt at the same time.
+ * <p>
+ * A robot stays where it is if a wall is in the way, if another robot wants the same cell,
+ * if it would swap places with a robot coming the other way, or if the cell it wants
+ * is taken by a robot that is not moving. A robot may follow another robot on the same belt.
+ * Moving off the board is never blocked.
+ */
+public class BeltResolver {
+    private static final int STAY = -2;
+
+    private final BoardGrid grid;
+    private final int[] claims;
+    private final int[] stayers;
+    private int[] cells;
+    private int[] wanted;
+    private int[] targets;
+
+    public BeltResolver(BoardGrid grid) {
+        this.grid = grid;
+        claims = new int[grid.getWidth() * grid.getHeight()];
+        stayers = new int[grid.getWidth() * grid.getHeight()];
+        cells = new int[8];
+        wanted = new int[8];
+        targets = new int[8];
+    }
+
+    /**
+     * Moves the robots one step along the belts they stand on.
+     * Robots not on a belt are turned by gyros when normal belts move. A robot a belt carries onto a gyro
+     * is not turned by it, as in the original rules.
+     *
+     * @param expressOnly true if only express belts move
+     * @param count       number of robots
+     * @param xs          x position of each robot, updated in place
+     * @param ys          y position of each robot, updated in place
+     * @param rotations   filled with how each robot has to rotate afterwards
+     */
+    public void resolve(boolean expressOnly, int count, int[] xs, int[] ys, Rotate[] rotations) {
+        ensureCapacity(count);
+        findTargets(expressOnly, count, xs, ys);
+        blockConflicts(count);
+
+        for (int i = 0; i < count; i++) {
+            rotations[i] = Rotate.NONE;
+            int cell = cells[i];
+            if (cell != OccupancyIndex.NONE) stayers[cell] = 0;
+            if (wanted[i] >= 0) claims[wanted[i]] = 0;
+
+            if (targets[i] == STAY) {
+                if (!expressOnly && cell != OccupancyIndex.NONE && grid.isGyro(xs[i], ys[i]))
+                    rotations[i] = grid.getGyroRotation(xs[i], ys[i]);
+                continue;
+            }
+
+            Direction direction = grid.getBeltDirection(xs[i], ys[i]);
+            rotations[i] = grid.getBeltEntryRotation(cell);
+            xs[i] += BoardGrid.dx(direction);
+            ys[i] += BoardGrid.dy(direction);
+        }
+    }
+
+    private void findTargets(boolean expressOnly, int count, int[] xs, int[] ys) {
+        for (int i = 0; i < count; i++) {
+            int x = xs[i];
+            int y = ys[i];
+            cells[i] = grid.inBounds(x, y) ? grid.index(x, y) : OccupancyIndex.NONE;
+            wanted[i] = STAY;
+
+            boolean onBelt = expressOnly ? grid.isOnExpressBelt(x, y) : grid.isOnBelt(x, y);
+            if (onBelt) {
+                int next = grid.getBeltNext(cells[i]);
+                if (next != cells[i]) wanted[i] = next;
+            }
+            targets[i] = wanted[i];
+            if (wanted[i] >= 0) claims[wanted[i]]++;
+        }
+    }
+
+    /**
+     * Turns moving robots into staying robots until nothing changes.
+     * Every pass either settles or stops at least one robot, so this ends after at most count passes.
+     */
+    private void blockConflicts(int count) {
+        for (int i = 0; i < count; i++) {
+            if (targets[i] >= 0 && claims[targets[i]] > 1) targets[i] = STAY;
+        }
+        for (int i = 0; i < count; i++) {
+            if (targets[i] == STAY && cells[i] != OccupancyIndex.NONE) stayers[cells[i]]++;
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < count; i++) {
+                int target = targets[i];
+                if (target < 0) continue;
+                if (stayers[target] > 0 || swapsWithAnother(i, count)) {
+                    targets[i] = STAY;
+                    if (cells[i] != OccupancyIndex.NONE) stayers[cells[i]]++;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private boolean swapsWithAnother(int robot, int count) {
+        for (int other = 0; other < count; other++) {
+            if (other != robot && targets[other] == cells[robot] && cells[other] == targets[robot]) return true;
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int count) {
+        if (count <= cells.length) return;
+        cells = Arrays.copyOf(cells, count);
+        wanted = Arrays.copyOf(wanted, count);
+        targets = Arrays.copyOf(targets, count);
+    }
+}
@@ -0,0 +1,433 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.objects.Flag;
+
+import java.util.List;
+
+/**
+ * A flat copy of the parts of a TiledMap the game rules care about.
+ * <p>
+ * The map layers are read once when the board is created. Every cell is then
+ * described by a few bytes, so rules queries are array reads instead of
+ * {@code MapProperties} lookups. Cells are indexed by {@code y * width + x}.
+ */
+public class BoardGrid {
+    public static final String FLOOR_LAYER = "floor";
+    public static final String BELT_LAYER = "belts";
+    public static final String LASER_LAYER = "lasers";
+    public static final String WALL_LAYER = "walls";
+    public static final String START_LAYER = "start";
+
+    /**
+     * Tile kinds of the floor layer. {@link #TILE_NONE} means there is no floor, i.e. off the board.
+     */
+    public static final byte TILE_NONE = 0;
+    public static final byte TILE_PLAIN = 1;
+    public static final byte TILE_FLOOR = 2;
+    public static final byte TILE_HOLE = 3;
+    public static final byte TILE_REPAIR = 4;
+    public static final byte TILE_OPTION = 5;
+
+    // Layout of a belt cell: two bits direction, belt kind flags and two bits Rotate ordinal.
+    private static final int DIRECTION_BITS = 0x3;
+    private static final int NORMAL_BELT = 1 << 2;
+    private static final int EXPRESS_BELT = 1 << 3;
+    private static final int GYRO = 1 << 4;
+    private static final int ROTATE_SHIFT = 5;
+
+    /**
+     * Value of {@link #getBeltNext(int)} for a belt that carries robots off the board.
+     */
+    public static final int OFF_BOARD = -1;
+
+    // Layout of a laser cell: zero if there is no laser, else 1 + direction, plus a flip flag.
+    private static final int LASER_FLIPPED = 1 << 3;
+
+    private static final Rotate[] ROTATIONS = Rotate.values();
+
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+    private final byte[] belts;
+    private final byte[] lasers;
+    private final byte[] starts;
+    private final byte[] walls;
+    private final byte[] blocked;
+    private final int[] rays;
+    private final int[] beltNext;
+    private final byte[] beltEntryRotation;
+    private MoveTable moveTable;
+    private DistanceField flagDistances;
+
+    public BoardGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        tiles = new byte[width * height];
+        belts = new byte[width * height];
+        lasers = new byte[width * height];
+        starts = new byte[width * height];
+        walls = new byte[width * height];
+        blocked = new byte[width * height];
+        rays = new int[width * height * 4];
+        beltNext = new int[width * height];
+        beltEntryRotation = new byte[width * height];
+    }
+
+    /**
+     * Reads the properties of one map cell into the grid.
+     *
+     * @param layer      name of the layer the cell belongs to, e.g. {@link #BELT_LAYER}
+     * @param x          position x
+     * @param y          position y
+     * @param properties the properties of the cell's tile
+     * @param flipped    true if the tile is flipped horizontally or vertically
+     */
+    public void compileCell(String layer, int x, int y, TileProperties properties, boolean flipped) {
+        if (!inBounds(x, y)) return;
+        int i = index(x, y);
+
+        switch (layer) {
+            case FLOOR_LAYER:
+                tiles[i] = floorKind(properties);
+                break;
+            case BELT_LAYER:
+                belts[i] = beltBits(properties);
+                break;
+            case LASER_LAYER:
+                String laser = properties.get("Laser");
+                if (laser != null)
+                    lasers[i] = (byte) (1 + Direction.valueOf(laser).toInt() | (flipped ? LASER_FLIPPED : 0));
+                break;
+            case WALL_LAYER:
+                String wall = properties.get("Wall");
+                if (wall != null) walls[i] = wallBits(wall);
+                break;
+            case START_LAYER:
+                String start = properties.get("Start");
+                if (start != null) starts[i] = Byte.parseByte(start);
+                break;
+        }
+    }
+
+    /**
+     * Must be called once after all cells are compiled.
+     * Combines each cell's own walls with the facing walls of its neighbours,
+     * so that {@link #canGo(int, int, Direction)} is a single bit test.
+     */
+    public void finish() {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int mask = walls[index(x, y)];
+                for (Direction direction : Direction.values()) {
+                    int nx = x + dx(direction);
+                    int ny = y + dy(direction);
+                    if (hasWall(nx, ny, direction.getOppositeDirection())) mask |= 1 << direction.toInt();
+                }
+                blocked[index(x, y)] = (byte) mask;
+            }
+        }
+        computeRays();
+        computeBeltGraph();
+    }
+
+    /**
+     * @return the move table for this grid, made the first time it is asked for after {@link #finish()}.
+     */
+    public synchronized MoveTable getMoveTable() {
+        if (moveTable == null) moveTable = new MoveTable(this);
+        return moveTable;
+    }
+
+    /**
+     * @return the distance fields for the flags. The last ones made are kept, so boards that share
+     * this grid and have the same flags, like the games of a batch run, only make them once.
+     */
+    public synchronized DistanceField getFlagDistances(List<Flag> flags) {
+        if (flagDistances == null || !flagDistances.matches(flags)) {
+            flagDistances = new DistanceField(getMoveTable(), this, flags);
+        }
+        return flagDistances;
+    }
+
+    /**
+     * Links every belt cell to the cell it carries robots to, and remembers how a robot is
+     * rotated when it arrives there. A belt pointing into a wall links to itself.
+     */
+    private void computeBeltGraph() {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = index(x, y);
+                beltNext[i] = i;
+                beltEntryRotation[i] = 0;
+                if (!isOnBelt(x, y)) continue;
+
+                Direction direction = getBeltDirection(x, y);
+                if (!canGo(x, y, direction)) continue;
+
+                int nextX = x + dx(direction);
+                int nextY = y + dy(direction);
+                if (!inBounds(nextX, nextY)) {
+                    beltNext[i] = OFF_BOARD;
+                    continue;
+                }
+                beltNext[i] = index(nextX, nextY);
+                beltEntryRotation[i] = (byte) getBeltRotation(nextX, nextY).ordinal();
+            }
+        }
+    }
+
+    /**
+     * For every cell and direction, counts how many cells a laser can travel before a wall or
+     * the edge of the board stops it. Each ray is the ray of the next cell plus one, so the
+     * cells are visited starting from the far side of the board.
+     */
+    private void computeRays() {
+        for (Direction direction : Direction.values()) {
+            int dx = dx(direction);
+            int dy = dy(direction);
+            for (int j = 0; j < height; j++) {
+                int y = dy > 0 ? height - 1 - j : j;
+                for (int i = 0; i < width; i++) {
+                    int x = dx > 0 ? width - 1 - i : i;
+                    int length = 0;
+                    if (canGo(x, y, direction) && inBounds(x + dx, y + dy)) {
+                        length = 1 + rays[index(x + dx, y + dy) * 4 + direction.toInt()];
+                    }
+                    rays[index(x, y) * 4 + direction.toInt()] = length;
+                }
+            }
+        }
+    }
+
+    private static byte floorKind(TileProperties properties) {
+        if (properties.get("Hole") != null) return TILE_HOLE;
+
+        String special = properties.get("Special");
+        if (special != null) return "OPTION".equals(special) ? TILE_OPTION : TILE_REPAIR;
+
+        if (properties.get("Floor") != null) return TILE_FLOOR;
+        return TILE_PLAIN;
+    }
+
+    private static byte beltBits(TileProperties properties) {
+        int bits = 0;
+        String direction;
+        if ((direction = properties.get("Express")) != null) {
+            bits = EXPRESS_BELT | Direction.valueOf(direction).toInt();
+        } else if ((direction = properties.get("Normal")) != null) {
+            bits = NORMAL_BELT | Direction.valueOf(direction).toInt();
+        }
+
+        String rotate = properties.get("Rotate");
+        String gyro = properties.get("Gyro");
+        if (bits == 0 && gyro != null) {
+            bits = GYRO;
+            rotate = gyro;
+        }
+        if (rotate != null) bits |= Rotate.valueOf(rotate).ordinal() << ROTATE_SHIFT;
+        return (byte) bits;
+    }
+
+    /**
+     * Wall values list the edges of the cell that have a wall, separated by spaces. Unknown words are ignored.
+     */
+    private static byte wallBits(String value) {
+        int bits = 0;
+        for (String edge : value.split(" ")) {
+            for (Direction direction : Direction.values()) {
+                if (direction.toString().equals(edge)) bits |= 1 << direction.toInt();
+            }
+        }
+        return (byte) bits;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public static int dx(Direction direction) {
+        switch (direction) {
+            case EAST:
+                return 1;
+            case WEST:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    public static int dy(Direction direction) {
+        switch (direction) {
+            case NORTH:
+                return 1;
+            case SOUTH:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    public byte getTile(int x, int y) {
+        return inBounds(x, y) ? tiles[index(x, y)] : TILE_NONE;
+    }
+
+    public boolean isOffTheBoard(int x, int y) {
+        byte tile = getTile(x, y);
+        return tile == TILE_NONE || tile == TILE_HOLE;
+    }
+
+    /**
+     * Option fields are repair fields too.
+     */
+    public boolean isOnRepair(int x, int y) {
+        byte tile = getTile(x, y);
+        return tile == TILE_REPAIR || tile == TILE_OPTION;
+    }
+
+    public boolean isOnOption(int x, int y) {
+        return getTile(x, y) == TILE_OPTION;
+    }
+
+    /**
+     * @return true if the cell is plain floor, the only place flags can be put.
+     */
+    public boolean isFloor(int x, int y) {
+        return getTile(x, y) == TILE_FLOOR;
+    }
+
+    private int belt(int x, int y) {
+        return inBounds(x, y) ? belts[index(x, y)] : 0;
+    }
+
+    public boolean isOnBelt(int x, int y) {
+        return (belt(x, y) & (NORMAL_BELT | EXPRESS_BELT)) != 0;
+    }
+
+    public boolean isOnExpressBelt(int x, int y) {
+        return (belt(x, y) & EXPRESS_BELT) != 0;
+    }
+
+    /**
+     * Only meaningful if {@link #isOnBelt(int, int)}.
+     */
+    public Direction getBeltDirection(int x, int y) {
+        return Direction.fromInt(belt(x, y) & DIRECTION_BITS);
+    }
+
+    /**
+     * @return how a robot is rotated when a belt moves it onto this cell, {@link Rotate#NONE} if not at all.
+     */
+    public Rotate getBeltRotation(int x, int y) {
+        int bits = belt(x, y);
+        if ((bits & (NORMAL_BELT | EXPRESS_BELT)) == 0) return Rotate.NONE;
+        return ROTATIONS[(bits >> ROTATE_SHIFT) & 0x3];
+    }
+
+    /**
+     * Only meaningful for belt cells.
+     *
+     * @param cell index of a belt cell
+     * @return index of the cell the belt carries robots to, the cell itself if a wall is in the way,
+     * or {@link #OFF_BOARD}.
+     */
+    public int getBeltNext(int cell) {
+        return beltNext[cell];
+    }
+
+    /**
+     * @param cell index of a belt cell
+     * @return how a robot carried from this cell is rotated when it arrives at the next cell.
+     */
+    public Rotate getBeltEntryRotation(int cell) {
+        return ROTATIONS[beltEntryRotation[cell]];
+    }
+
+    public boolean isGyro(int x, int y) {
+        return (belt(x, y) & GYRO) != 0;
+    }
+
+    public Rotate getGyroRotation(int x, int y) {
+        int bits = belt(x, y);
+        if ((bits & GYRO) == 0) return Rotate.NONE;
+        return ROTATIONS[(bits >> ROTATE_SHIFT) & 0x3];
+    }
+
+    public boolean hasLaser(int x, int y) {
+        return inBounds(x, y) && lasers[index(x, y)] != 0;
+    }
+
+    /**
+     * The direction the laser tile is drawn in. Only meaningful if {@link #hasLaser(int, int)}.
+     */
+    public Direction getLaserDirection(int x, int y) {
+        return Direction.fromInt((lasers[index(x, y)] - 1) & DIRECTION_BITS);
+    }
+
+    public boolean isLaserFlipped(int x, int y) {
+        return hasLaser(x, y) && (lasers[index(x, y)] & LASER_FLIPPED) != 0;
+    }
+
+    /**
+     * @return the number of the start plate on this cell, 0 if there is none.
+     */
+    public int getStartNumber(int x, int y) {
+        return inBounds(x, y) ? starts[index(x, y)] : 0;
+    }
+
+    /**
+     * @return true if the cell itself has a wall on the given edge.
+     */
+    public boolean hasWall(int x, int y, Direction edge) {
+        return inBounds(x, y) && (walls[index(x, y)] & (1 << edge.toInt())) != 0;
+    }
+
+    /**
+     * @return true if no wall stops a move from this cell to its neighbour in the given direction.
+     */
+    public boolean canGo(int x, int y, Direction direction) {
+        if (inBounds(x, y)) return (blocked[index(x, y)] & (1 << direction.toInt())) == 0;
+        return !hasWall(x + dx(direction), y + dy(direction), direction.getOppositeDirection());
+    }
+
+    /**
+     * A ray starts in the given cell and continues step by step in the given direction.
+     *
+     * @return the number of steps a laser can travel from the cell before it is stopped by a wall or the board edge.
+     */
+    public int getRayLength(int x, int y, Direction direction) {
+        return inBounds(x, y) ? rays[index(x, y) * 4 + direction.toInt()] : 0;
+    }
+
+    /**
+     * @return the edges of the cell that can not be crossed, one bit per {@link Direction#toInt()}.
+     */
+    public int getWallMask(int x, int y) {
+        return inBounds(x, y) ? blocked[index(x, y)] : 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * The properties of a map tile, independent of how the map was loaded.
+     */
+    public interface TileProperties {
+
+        /**
+         * @param key property name
+         * @return the value of the property, null if the tile does not have it
+         */
+        String get(String key);
+    }
+}
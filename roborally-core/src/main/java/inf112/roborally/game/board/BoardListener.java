@@ -0,0 +1,31 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.Robot;
+
+/**
+ * Lets the game play sounds and animations for things that happen during board moves,
+ * without the rules knowing anything about either.
+ */
+public interface BoardListener {
+
+    /**
+     * A belt carried the robot off the board or into a hole.
+     * Not called again for the same robot until it has moved by itself.
+     */
+    void robotFellOff(Robot robot);
+
+    /**
+     * A laser mounted on the board hit the robot.
+     */
+    void robotHitByLaser(Robot robot);
+
+    /**
+     * The laser cannon of one robot hit another robot.
+     */
+    void robotShot(Robot shooter, Robot target);
+
+    /**
+     * The robot was repaired one damage by a repair site.
+     */
+    void robotRepaired(Robot robot);
+}
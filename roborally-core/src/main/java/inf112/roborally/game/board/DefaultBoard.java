@@ -0,0 +1,65 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.Robot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The board a game is played on when no other is chosen: the vault with three flags. Multiplayer games are always
+ * played on it. The server and every player set it up here, so they all play on the same board.
+ */
+public final class DefaultBoard {
+    public static final String MAP = "assets/maps/vault.tmx";
+    /**
+     * The flags as {x, y} pairs, in the order they must be visited.
+     */
+    public static final int[][] FLAGS = {{7, 7}, {11, 10}, {13, 1}};
+
+    /**
+     * Makes the robot of a player, on the board it is given.
+     */
+    public interface RobotMaker<R extends Robot> {
+        R make(int id, String name);
+    }
+
+    private DefaultBoard() {
+    }
+
+    public static void addFlags(RulesBoard<?> board) {
+        for (int i = 0; i < FLAGS.length; i++) {
+            board.getFlags().add(new Flag(FLAGS[i][0], FLAGS[i][1], i + 1));
+        }
+        board.updateFlagDistances();
+    }
+
+    /**
+     * Loads the map, adds the flags, a robot for every player in the order of their ids and the lasers.
+     * The robots still have to be placed with {@link RulesBoard#placePlayers()}.
+     *
+     * @param names the names of the players, by id
+     * @return the robots, by id
+     */
+    public static <R extends Robot> List<R> setUpMultiplayer(RulesBoard<R> board, List<String> names,
+                                                             RobotMaker<R> maker) {
+        return setUpMultiplayer(board, MAP, names, maker);
+    }
+
+    /**
+     * @param map where to read the map from, for when the game is not run from the project root
+     */
+    static <R extends Robot> List<R> setUpMultiplayer(RulesBoard<R> board, String map, List<String> names,
+                                                      RobotMaker<R> maker) {
+        board.createBoard(map);
+        addFlags(board);
+        List<R> robots = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            R robot = maker.make(i, names.get(i));
+            robots.add(robot);
+            board.addPlayer(robot);
+        }
+        board.findLaserGuns();
+        return robots;
+    }
+}
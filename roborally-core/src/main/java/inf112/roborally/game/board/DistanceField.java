@@ -0,0 +1,116 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * How many cards a robot needs at least to reach each flag, from every cell and direction.
+ * <p>
+ * Made with a breadth first search backwards from the flag over the {@link MoveTable}, so walls,
+ * holes, the board edge and belts are all part of the distance. Other robots and lasers are not.
+ * A robot counts as having reached the flag when it ends a phase on it, like {@link RulesBoard} does.
+ */
+public class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int width;
+    private final int[] flagXs;
+    private final int[] flagYs;
+    private final int[][] distances;
+
+    /**
+     * @param flags the flags, in the order they are visited
+     */
+    public DistanceField(MoveTable moves, BoardGrid grid, List<Flag> flags) {
+        width = grid.getWidth();
+        flagXs = new int[flags.size()];
+        flagYs = new int[flags.size()];
+        for (int i = 0; i < flags.size(); i++) {
+            flagXs[i] = flags.get(i).getX();
+            flagYs[i] = flags.get(i).getY();
+        }
+
+        int states = moves.getStates();
+        int[] firstPrevious = new int[states + 1];
+        for (int state = 0; state < states; state++) {
+            for (int kind = 0; kind < MoveTable.KINDS; kind++) {
+                int next = moves.next(state, kind);
+                if (next != MoveTable.DEAD) firstPrevious[next + 1]++;
+            }
+        }
+        for (int state = 0; state < states; state++) {
+            firstPrevious[state + 1] += firstPrevious[state];
+        }
+        int[] previous = new int[firstPrevious[states]];
+        int[] filled = Arrays.copyOf(firstPrevious, states);
+        for (int state = 0; state < states; state++) {
+            for (int kind = 0; kind < MoveTable.KINDS; kind++) {
+                int next = moves.next(state, kind);
+                if (next != MoveTable.DEAD) previous[filled[next]++] = state;
+            }
+        }
+
+        distances = new int[flags.size()][];
+        int[] queue = new int[states];
+        for (int flag = 0; flag < distances.length; flag++) {
+            int[] distance = new int[states];
+            Arrays.fill(distance, UNREACHABLE);
+            int head = 0;
+            int tail = 0;
+            if (grid.inBounds(flagXs[flag], flagYs[flag])) {
+                for (int direction = 0; direction < 4; direction++) {
+                    int goal = MoveTable.state(grid.index(flagXs[flag], flagYs[flag]), direction);
+                    distance[goal] = 0;
+                    queue[tail++] = goal;
+                }
+            }
+            while (head < tail) {
+                int state = queue[head++];
+                for (int i = firstPrevious[state]; i < firstPrevious[state + 1]; i++) {
+                    int before = previous[i];
+                    if (distance[before] == UNREACHABLE) {
+                        distance[before] = distance[state] + 1;
+                        queue[tail++] = before;
+                    }
+                }
+            }
+            distances[flag] = distance;
+        }
+    }
+
+    /**
+     * @param flag      index of the flag, 0 for the first flag
+     * @param state     the robot's pose, see {@link MoveTable#state(int, int)}
+     * @return the number of cards to reach the flag, {@link #UNREACHABLE} if it can not be reached.
+     */
+    public int get(int flag, int state) {
+        return distances[flag][state];
+    }
+
+    /**
+     * @return the number of cards to reach the flag from the cell facing the direction,
+     * {@link #UNREACHABLE} if it can not be reached or the cell is outside the board.
+     */
+    public int get(int flag, int x, int y, Direction direction) {
+        if (x < 0 || y < 0 || x >= width || y * width + x >= distances[flag].length / 4) return UNREACHABLE;
+        return distances[flag][MoveTable.state(y * width + x, direction.toInt())];
+    }
+
+    public int getFlagCount() {
+        return distances.length;
+    }
+
+    /**
+     * @return true if the field was made for these flags.
+     */
+    public boolean matches(List<Flag> flags) {
+        if (flags.size() != flagXs.length) return false;
+        for (int i = 0; i < flagXs.length; i++) {
+            if (flags.get(i).getX() != flagXs[i] || flags.get(i).getY() != flagYs[i]) return false;
+        }
+        return true;
+    }
+}
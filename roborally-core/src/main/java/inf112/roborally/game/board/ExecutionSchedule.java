@@ -0,0 +1,82 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+import inf112.roborally.game.player.Robot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The order the robots execute their registers in, for all five phases of a round.
+ * <p>
+ * It is made once when the registers are locked in. For every phase the robots are sorted by the priority of
+ * their card, lowest first, by sorting ints that hold the priority in the high bits and the robot in the low
+ * bits. The list of players itself is never reordered, so it can be drawn while the round is played.
+ *
+ * @param <R> the kind of robot
+ */
+public class ExecutionSchedule<R extends Robot> {
+    private static final int ROBOT_BITS = 8;
+    public static final int MAX_ROBOTS = 1 << ROBOT_BITS;
+
+    private final ArrayList<R> robots;
+    private byte[][] order;
+    private int[] keys;
+
+    public ExecutionSchedule() {
+        robots = new ArrayList<>();
+        order = new byte[ProgramRegisters.NUMBER_OF_REGISTERS][0];
+        keys = new int[0];
+    }
+
+    /**
+     * Makes the schedule for the cards that are in the robots' registers now.
+     * A robot without a card in a register gets priority 0 for that phase.
+     *
+     * @param players the robots taking part in the round
+     */
+    public void schedule(List<? extends R> players) {
+        if (players.size() > MAX_ROBOTS) {
+            throw new IllegalArgumentException("Can not schedule more than " + MAX_ROBOTS + " robots");
+        }
+        robots.clear();
+        for (int i = 0; i < players.size(); i++) {
+            robots.add(players.get(i));
+        }
+        int n = robots.size();
+        if (keys.length < n) {
+            keys = new int[n];
+            order = new byte[ProgramRegisters.NUMBER_OF_REGISTERS][n];
+        }
+
+        for (int phase = 0; phase < ProgramRegisters.NUMBER_OF_REGISTERS; phase++) {
+            for (int i = 0; i < n; i++) {
+                ProgramCard card = robots.get(i).getRegisters().getCard(phase);
+                int priority = card == null ? 0 : card.getPriority();
+                keys[i] = priority << ROBOT_BITS | i;
+            }
+            Arrays.sort(keys, 0, n);
+            for (int turn = 0; turn < n; turn++) {
+                order[phase][turn] = (byte) (keys[turn] & (1 << ROBOT_BITS) - 1);
+            }
+        }
+    }
+
+    /**
+     * @param phase the register being executed
+     * @param turn  0 for the first robot to execute that register, 1 for the next and so on
+     * @return the robot whose turn it is
+     */
+    public R get(int phase, int turn) {
+        return robots.get(order[phase][turn] & 0xFF);
+    }
+
+    /**
+     * @return the number of robots in the schedule, which is the number of turns in a phase.
+     */
+    public int size() {
+        return robots.size();
+    }
+}
@@ -0,0 +1,133 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.player.ProgramCard;
+
+/**
+ * Where a robot alone on the board ends up after playing a card and riding the belts, for every cell,
+ * direction and kind of card. Made once when the map is read, so looking a move up is a single array read.
+ * <p>
+ * A robot's pose is a state, {@code cell * 4 + direction}. Walls, holes, the board edge, express belts,
+ * belts and gyros are taken into account. Other robots and lasers are not.
+ */
+public class MoveTable {
+    public static final int DEAD = -1;
+
+    public static final int NO_CARD = 0;
+    public static final int MOVE_1 = 1;
+    public static final int MOVE_2 = 2;
+    public static final int MOVE_3 = 3;
+    public static final int BACK_UP = 4;
+    public static final int TURN_LEFT = 5;
+    public static final int TURN_RIGHT = 6;
+    public static final int U_TURN = 7;
+    public static final int KINDS = 8;
+
+    private static final Direction[] DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+
+    private final BoardGrid grid;
+    private final int[] next;
+
+    public MoveTable(BoardGrid grid) {
+        this.grid = grid;
+        int states = grid.getWidth() * grid.getHeight() * 4;
+        next = new int[states * KINDS];
+        for (int state = 0; state < states; state++) {
+            for (int kind = 0; kind < KINDS; kind++) {
+                next[state * KINDS + kind] = play(state, kind);
+            }
+        }
+    }
+
+    public static int state(int cell, int direction) {
+        return cell * 4 + direction;
+    }
+
+    public static int cell(int state) {
+        return state >> 2;
+    }
+
+    public static int direction(int state) {
+        return state & 3;
+    }
+
+    /**
+     * @return the state after playing a card of the kind and the belts moving, or {@link #DEAD}.
+     */
+    public int next(int state, int kind) {
+        return next[state * KINDS + kind];
+    }
+
+    public int getStates() {
+        return next.length / KINDS;
+    }
+
+    /**
+     * @param card a card from the deck, or null for an empty register
+     * @throws IllegalArgumentException if no card in the deck moves like this one
+     */
+    public static int kindOf(ProgramCard card) {
+        if (card == null) return NO_CARD;
+        switch (card.getRotate()) {
+            case LEFT:
+                return TURN_LEFT;
+            case RIGHT:
+                return TURN_RIGHT;
+            case UTURN:
+                return U_TURN;
+            default:
+                break;
+        }
+        switch (card.getMoveDistance()) {
+            case -1:
+                return BACK_UP;
+            case 1:
+                return MOVE_1;
+            case 2:
+                return MOVE_2;
+            case 3:
+                return MOVE_3;
+            default:
+                throw new IllegalArgumentException("No card in the deck moves like " + card);
+        }
+    }
+
+    private int play(int state, int kind) {
+        int x = cell(state) % grid.getWidth();
+        int y = cell(state) / grid.getWidth();
+        Direction direction = DIRECTIONS[direction(state)];
+        if (grid.isOffTheBoard(x, y)) return DEAD;
+
+        if (kind == TURN_LEFT) direction = direction.rotate(Rotate.LEFT);
+        else if (kind == TURN_RIGHT) direction = direction.rotate(Rotate.RIGHT);
+        else if (kind == U_TURN) direction = direction.rotate(Rotate.UTURN);
+        else if (kind != NO_CARD) {
+            Direction moveDirection = kind == BACK_UP ? direction.getOppositeDirection() : direction;
+            int steps = kind == BACK_UP ? 1 : kind;
+            for (int i = 0; i < steps; i++) {
+                if (grid.canGo(x, y, moveDirection)) {
+                    x += BoardGrid.dx(moveDirection);
+                    y += BoardGrid.dy(moveDirection);
+                }
+            }
+            if (grid.isOffTheBoard(x, y)) return DEAD;
+        }
+
+        for (int pass = 0; pass < 2; pass++) {
+            boolean expressOnly = pass == 0;
+            int cell = grid.index(x, y);
+            boolean onBelt = expressOnly ? grid.isOnExpressBelt(x, y) : grid.isOnBelt(x, y);
+            if (onBelt && grid.getBeltNext(cell) != cell) {
+                Direction belt = grid.getBeltDirection(x, y);
+                direction = direction.rotate(grid.getBeltEntryRotation(cell));
+                x += BoardGrid.dx(belt);
+                y += BoardGrid.dy(belt);
+                if (grid.isOffTheBoard(x, y)) return DEAD;
+            } else if (!expressOnly && grid.isGyro(x, y)) {
+                direction = direction.rotate(grid.getGyroRotation(x, y));
+            }
+        }
+        return state(grid.index(x, y), direction.toInt());
+    }
+}
@@ -0,0 +1,134 @@
+package inf112.roborally.game.board;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of which robot slots stand on which cell, so "who is on this cell"
+ * does not need a scan of every robot.
+ * <p>
+ * Each cell holds the first slot standing on it, and each slot links to the next slot
+ * on the same cell. Robots very rarely share a cell, so a lookup is usually a single array read.
+ * Robots outside of the board are kept in one separate chain.
+ */
+public class OccupancyIndex {
+    public static final int NONE = -1;
+    private static final int OUTSIDE = -2;
+
+    private int width;
+    private int height;
+    private int[] heads;
+    private int outsideHead;
+
+    private int[] xs;
+    private int[] ys;
+    private int[] cells;
+    private int[] next;
+
+    public OccupancyIndex(int width, int height) {
+        xs = new int[8];
+        ys = new int[8];
+        cells = new int[8];
+        next = new int[8];
+        Arrays.fill(cells, NONE);
+        resize(width, height);
+    }
+
+    /**
+     * Changes the size of the board and re-indexes every slot.
+     */
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        heads = new int[width * height];
+        Arrays.fill(heads, NONE);
+        outsideHead = NONE;
+
+        for (int slot = 0; slot < cells.length; slot++) {
+            if (cells[slot] != NONE) link(slot);
+        }
+    }
+
+    /**
+     * Puts a slot on a cell, moving it from wherever it was.
+     */
+    public void place(int slot, int x, int y) {
+        ensureCapacity(slot + 1);
+        if (cells[slot] != NONE) unlink(slot);
+        xs[slot] = x;
+        ys[slot] = y;
+        link(slot);
+    }
+
+    public void remove(int slot) {
+        if (slot >= cells.length || cells[slot] == NONE) return;
+        unlink(slot);
+        cells[slot] = NONE;
+    }
+
+    /**
+     * @return the first slot on the cell, {@link #NONE} if the cell is empty.
+     */
+    public int first(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            for (int slot = outsideHead; slot != NONE; slot = next[slot]) {
+                if (xs[slot] == x && ys[slot] == y) return slot;
+            }
+            return NONE;
+        }
+        return heads[y * width + x];
+    }
+
+    /**
+     * @return the next slot on the same cell as the given slot, {@link #NONE} if there are no more.
+     */
+    public int next(int slot) {
+        int x = xs[slot];
+        int y = ys[slot];
+        for (int other = next[slot]; other != NONE; other = next[other]) {
+            if (xs[other] == x && ys[other] == y) return other;
+        }
+        return NONE;
+    }
+
+    private void link(int slot) {
+        int x = xs[slot];
+        int y = ys[slot];
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            cells[slot] = OUTSIDE;
+            next[slot] = outsideHead;
+            outsideHead = slot;
+            return;
+        }
+        int cell = y * width + x;
+        cells[slot] = cell;
+        next[slot] = heads[cell];
+        heads[cell] = slot;
+    }
+
+    private void unlink(int slot) {
+        int cell = cells[slot];
+        int head = cell == OUTSIDE ? outsideHead : heads[cell];
+        if (head == slot) {
+            if (cell == OUTSIDE) outsideHead = next[slot];
+            else heads[cell] = next[slot];
+            return;
+        }
+        for (int other = head; other != NONE; other = next[other]) {
+            if (next[other] == slot) {
+                next[other] = next[slot];
+                return;
+            }
+        }
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= cells.length) return;
+        int size = Math.max(slots, cells.length * 2);
+        int oldSize = cells.length;
+        xs = Arrays.copyOf(xs, size);
+        ys = Arrays.copyOf(ys, size);
+        next = Arrays.copyOf(next, size);
+        cells = Arrays.copyOf(cells, size);
+        Arrays.fill(cells, oldSize, size, NONE);
+    }
+}
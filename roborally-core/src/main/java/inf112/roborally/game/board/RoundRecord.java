@@ -0,0 +1,146 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.Robot;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What happened in one round, step by step, so it can be shown without playing the rules again.
+ * <p>
+ * A step is one robot executing its card or the board moving, and the state of every robot after the step is kept
+ * in a slot of a {@link StateArena}. Robots are numbered by their index in the list of players the game started
+ * with. Events for the {@link BoardListener} belong to the step they happened in.
+ */
+public class RoundRecord {
+    /**
+     * Actor of the step where the board elements move.
+     */
+    public static final int BOARD_MOVES = -1;
+    /**
+     * Actor of the last step, where robots are repaired, respawned and powered up for the next round.
+     */
+    public static final int CLEAN_UP = -2;
+
+    public static final int FELL_OFF = 0;
+    public static final int HIT_BY_LASER = 1;
+    public static final int SHOT = 2;
+    public static final int REPAIRED = 3;
+
+    private final StateArena states;
+    private final int[] phases;
+    private final int[] actors;
+    private int steps;
+    private int[] events; // step, type, robot and other robot for every event
+    private int eventCount;
+
+    /**
+     * @param robots   number of robots the game started with
+     * @param maxSteps the most steps the round can have
+     */
+    public RoundRecord(int robots, int maxSteps) {
+        states = new StateArena(robots, maxSteps);
+        phases = new int[maxSteps];
+        actors = new int[maxSteps];
+        events = new int[4 * 8];
+    }
+
+    /**
+     * @return the most steps a round with this many robots can have, a card for every robot and the board moves
+     * in all five phases and the clean up.
+     */
+    public static int maxSteps(int robots) {
+        return 5 * (robots + 1) + 1;
+    }
+
+    /**
+     * Starts a new step. Fill in the state of the robots in its slot.
+     *
+     * @param actor the robot that played its card, {@link #BOARD_MOVES} or {@link #CLEAN_UP}
+     * @return the slot of the step in {@link #getStates()}
+     */
+    public int addStep(int phase, int actor) {
+        phases[steps] = phase;
+        actors[steps] = actor;
+        return steps++;
+    }
+
+    /**
+     * @param type  {@link #FELL_OFF}, {@link #HIT_BY_LASER}, {@link #SHOT} or {@link #REPAIRED}
+     * @param other the robot that was shot, -1 for the other events
+     */
+    public void addEvent(int step, int type, int robot, int other) {
+        if (4 * eventCount == events.length) events = Arrays.copyOf(events, events.length * 2);
+        int i = 4 * eventCount++;
+        events[i] = step;
+        events[i + 1] = type;
+        events[i + 2] = robot;
+        events[i + 3] = other;
+    }
+
+    /**
+     * Tells the listener about the events of a step, in the order they happened.
+     *
+     * @param robots the robots of the game, by their number
+     */
+    public void replayEvents(int step, BoardListener listener, List<? extends Robot> robots) {
+        for (int i = 0; i < 4 * eventCount; i += 4) {
+            if (events[i] != step) continue;
+            Robot robot = robots.get(events[i + 2]);
+            switch (events[i + 1]) {
+                case FELL_OFF:
+                    listener.robotFellOff(robot);
+                    break;
+                case HIT_BY_LASER:
+                    listener.robotHitByLaser(robot);
+                    break;
+                case SHOT:
+                    listener.robotShot(robot, robots.get(events[i + 3]));
+                    break;
+                case REPAIRED:
+                    listener.robotRepaired(robot);
+                    break;
+            }
+        }
+    }
+
+    public StateArena getStates() {
+        return states;
+    }
+
+    public int getRobots() {
+        return states.getRobots();
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    public int getPhase(int step) {
+        return phases[step];
+    }
+
+    public int getActor(int step) {
+        return actors[step];
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getEventStep(int event) {
+        return events[4 * event];
+    }
+
+    public int getEventType(int event) {
+        return events[4 * event + 1];
+    }
+
+    public int getEventRobot(int event) {
+        return events[4 * event + 2];
+    }
+
+    public int getEventOther(int event) {
+        return events[4 * event + 3];
+    }
+}
@@ -0,0 +1,374 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.objects.BoardLaser;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.objects.Position;
+import inf112.roborally.game.objects.StartPosition;
+import inf112.roborally.game.player.Robot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The state of a board and the moves the board makes on its own: belts, lasers, flags and repair sites.
+ * <p>
+ * Nothing in here draws or plays sounds. The game listens through a {@link BoardListener}
+ * and subclasses add the drawing, so a board can also be played without a screen.
+ *
+ * @param <R> the kind of robot on the board
+ */
+@SuppressWarnings("Duplicates")
+public class RulesBoard<R extends Robot> {
+    protected final ArrayList<Flag> flags;
+    protected final ArrayList<BoardLaser> boardLasers;
+    protected final ArrayList<StartPosition> startPlates;
+    public List<R> players;
+    private final ArrayList<R> robotSlots;
+    private final OccupancyIndex occupancy;
+    private BeltResolver beltResolver;
+    private int[] robotXs = new int[0];
+    private int[] robotYs = new int[0];
+    private Rotate[] robotRotations = new Rotate[0];
+    private BoardListener listener;
+    protected BoardGrid grid;
+
+    public RulesBoard() {
+        players = Collections.synchronizedList(new ArrayList<R>());
+        flags = new ArrayList<>();
+        boardLasers = new ArrayList<>();
+        startPlates = new ArrayList<>();
+        robotSlots = new ArrayList<>();
+        occupancy = new OccupancyIndex(0, 0);
+    }
+
+    /**
+     * Reads the map with {@link TmxBoardReader}.
+     *
+     * @param mapPath path to the .tmx file
+     */
+    public void createBoard(String mapPath) {
+        setGrid(TmxBoardReader.read(mapPath));
+    }
+
+    /**
+     * Uses a grid that has already been read. A grid does not change once it is finished,
+     * so many boards can share one.
+     */
+    public void setGrid(BoardGrid grid) {
+        this.grid = grid;
+        occupancy.resize(grid.getWidth(), grid.getHeight());
+        beltResolver = new BeltResolver(grid);
+    }
+
+    public void setListener(BoardListener listener) {
+        this.listener = listener;
+    }
+
+    public BoardListener getListener() {
+        return listener;
+    }
+
+    public void findLaserGuns() {
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (grid.hasLaser(x, y)) {
+                    Direction direction = grid.getLaserDirection(x, y);
+                    if (grid.isLaserFlipped(x, y)) direction = direction.getOppositeDirection();
+                    boardLasers.add(new BoardLaser(x, y, direction));
+                }
+            }
+        }
+    }
+
+    public void findStartPlates() {
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                int value = grid.getStartNumber(x, y);
+                if (value > 0) {
+                    startPlates.add(new StartPosition(x, y, value));
+                }
+            }
+        }
+    }
+
+    public void addPlayer(R player) {
+        if (player == null) {
+            return;
+        }
+        players.add(player);
+        occupy(player);
+    }
+
+    public void removePlayer(R player) {
+        players.remove(player);
+        int slot = robotSlots.indexOf(player);
+        if (slot == -1) return;
+
+        player.position.setListener(null);
+        player.setZobristKeys(null);
+        occupancy.remove(slot);
+        robotSlots.set(slot, null);
+    }
+
+    /**
+     * Gives the player a slot in the occupancy index and its Zobrist keys, and keeps both updated
+     * whenever the player moves.
+     */
+    private void occupy(final R player) {
+        final int slot = robotSlots.size();
+        robotSlots.add(player);
+        occupancy.place(slot, player.getX(), player.getY());
+        player.setZobristKeys(grid == null ? new ZobristKeys(slot, 0, 0)
+                : new ZobristKeys(slot, grid.getWidth(), grid.getHeight()));
+        player.position.setListener(new Position.Listener() {
+            @Override
+            public void positionChanged(int x, int y) {
+                occupancy.place(slot, x, y);
+                player.rehashPosition(x, y);
+            }
+        });
+    }
+
+    /**
+     * @param x      position x
+     * @param y      position y
+     * @param except a robot to ignore, may be null
+     * @return a robot standing on the cell other than {@code except}, null if there is none.
+     */
+    public R getRobotAt(int x, int y, Object except) {
+        for (int slot = occupancy.first(x, y); slot != OccupancyIndex.NONE; slot = occupancy.next(slot)) {
+            R robot = robotSlots.get(slot);
+            if (except == null || !except.equals(robot)) return robot;
+        }
+        return null;
+    }
+
+    /**
+     * Writes every robot into a slot of the arena. Robots keep the index they got when they were added,
+     * so sorting the players does not change where they are stored.
+     */
+    public void exportState(StateArena arena, int slot) {
+        for (int i = 0; i < robotSlots.size(); i++) {
+            R robot = robotSlots.get(i);
+            if (robot != null) robot.exportState(arena, slot, i);
+        }
+    }
+
+    /**
+     * Sets every robot to the state stored in a slot of the arena.
+     *
+     * @see #exportState(StateArena, int)
+     */
+    public void importState(StateArena arena, int slot) {
+        for (int i = 0; i < robotSlots.size(); i++) {
+            R robot = robotSlots.get(i);
+            if (robot != null) robot.importState(arena, slot, i);
+        }
+    }
+
+    /**
+     * @return the Zobrist hash of every robot on the board. Equal states give equal hashes, also in
+     * another game, as long as the robots were added in the same order.
+     */
+    public long getStateHash() {
+        long hash = 0;
+        for (int i = 0; i < robotSlots.size(); i++) {
+            R robot = robotSlots.get(i);
+            if (robot != null) hash ^= robot.getStateHash();
+        }
+        return hash;
+    }
+
+    /**
+     * @return how many robots an arena needs to hold the state of this board.
+     */
+    public int getRobotSlotCount() {
+        return robotSlots.size();
+    }
+
+    public void addPlayersToBoard(List<R> players) {
+        for (R player : players) {
+            if (player != null) {
+                addPlayer(player);
+            }
+        }
+    }
+
+    public void placePlayers() {
+        findStartPlates();
+        Collections.sort(startPlates);
+        int startNumber = 0;
+        for (R currentPlayer : players) {
+            currentPlayer.moveToPosition(startPlates.get(startNumber++).position);
+            currentPlayer.setDirection(Direction.EAST);
+            currentPlayer.getBackup().moveToPlayerPosition();
+        }
+    }
+
+    public void boardMoves() {
+        expressBeltsMovePlayers();
+        beltsMovePlayers();
+        lasersFire();
+        robotLasersFire();
+        visitFlags();
+        visitSpecialFields();
+    }
+
+    private void expressBeltsMovePlayers() {
+        beltsMovePlayers(true);
+    }
+
+    private void beltsMovePlayers() {
+        beltsMovePlayers(false);
+    }
+
+    /**
+     * Lets the {@link BeltResolver} move every robot at once, then applies the result to the players.
+     */
+    private void beltsMovePlayers(boolean expressOnly) {
+        int count = players.size();
+        if (robotXs.length < count) {
+            robotXs = new int[count];
+            robotYs = new int[count];
+            robotRotations = new Rotate[count];
+        }
+        for (int i = 0; i < count; i++) {
+            robotXs[i] = players.get(i).getX();
+            robotYs[i] = players.get(i).getY();
+        }
+
+        beltResolver.resolve(expressOnly, count, robotXs, robotYs, robotRotations);
+
+        for (int i = 0; i < count; i++) {
+            R player = players.get(i);
+            if (player.getX() != robotXs[i] || player.getY() != robotYs[i]) player.move(robotXs[i], robotYs[i]);
+            if (robotRotations[i] != Rotate.NONE) player.rotate(robotRotations[i]);
+
+            if (player.isOffTheBoard(grid)) {
+                if (player.hasScreamed()) {
+                    player.setScreamed(true);
+                    if (listener != null) listener.robotFellOff(player);
+                }
+                player.destroy();
+            }
+        }
+    }
+
+    /**
+     * Follows the precomputed ray from a cell until it reaches a robot.
+     *
+     * @param x         position x
+     * @param y         position y
+     * @param direction direction of the ray
+     * @param firstStep 0 to include the starting cell, 1 to start with its neighbour
+     * @return the number of steps to the first robot on the ray, -1 if a wall or the board edge comes first.
+     */
+    public int stepsToRobot(int x, int y, Direction direction, int firstStep) {
+        int length = grid.getRayLength(x, y, direction);
+        int dx = BoardGrid.dx(direction);
+        int dy = BoardGrid.dy(direction);
+        for (int step = firstStep; step <= length; step++) {
+            if (occupancy.first(x + dx * step, y + dy * step) != OccupancyIndex.NONE) return step;
+        }
+        return -1;
+    }
+
+    /*
+     * The loops below run every phase, so they use indices instead of iterators to not leave garbage behind.
+     */
+
+    public void lasersFire() {
+        for (int i = 0; i < boardLasers.size(); i++) {
+            Robot robot = boardLasers.get(i).fire(this);
+            if (robot != null && listener != null) listener.robotHitByLaser(robot);
+        }
+    }
+
+    public void robotLasersFire() {
+        for (int i = 0; i < players.size(); i++) {
+            R player = players.get(i);
+            Robot target = player.getLaserCannon().fire(this);
+            if (target != null && listener != null) listener.robotShot(player, target);
+        }
+    }
+
+    private void visitFlags() {
+        for (int i = 0; i < flags.size(); i++) {
+            Flag flag = flags.get(i);
+            int slot = occupancy.first(flag.getX(), flag.getY());
+            for (; slot != OccupancyIndex.NONE; slot = occupancy.next(slot)) {
+                R player = robotSlots.get(slot);
+                player.visitFlag(flag.getFlagNumber());
+                player.getBackup().moveToPlayerPosition();
+            }
+        }
+    }
+
+    private void visitSpecialFields() {
+        for (int i = 0; i < players.size(); i++) {
+            R player = players.get(i);
+            if (player.isOnRepair(grid) || player.isOnOption(grid)) {
+                player.getBackup().moveToPlayerPosition();
+            }
+        }
+    }
+
+    public void cleanUp() {
+        for (int i = 0; i < players.size(); i++) {
+            R player = players.get(i);
+            if ((player.isOnRepair(grid) || player.isOnOption(grid)) && player.getDamage() > 0) {
+                player.repairOneDamage();
+                if (listener != null) listener.robotRepaired(player);
+            }
+            if (player.isOnOption(grid)) {
+                //Give option card to player (not implemented)
+            }
+        }
+    }
+
+    public ArrayList<Flag> getFlags() {
+        return flags;
+    }
+
+    /**
+     * Makes the distance fields for the flags. Call it when the flags have been placed,
+     * so the first robot that asks does not have to wait for them.
+     */
+    public void updateFlagDistances() {
+        grid.getFlagDistances(flags);
+    }
+
+    /**
+     * @return how many cards it takes to reach each flag, made again by the grid if the flags have changed.
+     */
+    public DistanceField getFlagDistances() {
+        return grid.getFlagDistances(flags);
+    }
+
+    public MoveTable getMoveTable() {
+        return grid.getMoveTable();
+    }
+
+    public ArrayList<BoardLaser> getBoardLasers() {
+        return boardLasers;
+    }
+
+    public List<R> getPlayers() {
+        return this.players;
+    }
+
+    public BoardGrid getGrid() {
+        return grid;
+    }
+
+    public int getWidth() {
+        return grid.getWidth();
+    }
+
+    public int getHeight() {
+        return grid.getHeight();
+    }
+}
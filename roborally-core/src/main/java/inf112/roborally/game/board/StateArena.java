@@ -0,0 +1,95 @@
+package inf112.roborally.game.board;
+
+import java.util.Arrays;
+
+/**
+ * A fixed number of game states packed into one int array, for search that needs to try many futures.
+ * <p>
+ * Each state lives in a slot. Within a slot every field is stored for all robots in a row, e.g. the x
+ * of robot 0, 1, 2, ... then the y of robot 0, 1, 2, ... and so on. Slots follow each other, so
+ * forking a state is a single {@link System#arraycopy} and nothing is allocated while searching.
+ * <p>
+ * Robots and boards fill a slot with {@code exportState} and read it back with {@code importState}.
+ */
+public class StateArena {
+    public static final int X = 0;
+    public static final int Y = 1;
+    public static final int DIRECTION = 2;
+    public static final int DAMAGE = 3;
+    public static final int LIVES = 4;
+    public static final int TARGET_FLAG = 5;
+    public static final int PLAYER_STATE = 6;
+    public static final int UNLOCKED_REGISTERS = 7;
+    public static final int BACKUP_X = 8;
+    public static final int BACKUP_Y = 9;
+    /**
+     * The first of five register fields, holding {@code ProgramCard.pack()} or 0 for an empty register.
+     */
+    public static final int REGISTER = 10;
+    public static final int FIELDS = REGISTER + 5;
+
+    private final int robots;
+    private final int slots;
+    private final int slotSize;
+    private final int[] data;
+
+    /**
+     * @param robots number of robots in every state
+     * @param slots  number of states the arena can hold
+     */
+    public StateArena(int robots, int slots) {
+        this.robots = robots;
+        this.slots = slots;
+        slotSize = FIELDS * robots;
+        data = new int[slotSize * slots];
+    }
+
+    public int get(int slot, int field, int robot) {
+        return data[slot * slotSize + field * robots + robot];
+    }
+
+    public void set(int slot, int field, int robot, int value) {
+        data[slot * slotSize + field * robots + robot] = value;
+    }
+
+    /**
+     * Overwrites one slot with another.
+     */
+    public void copy(int from, int to) {
+        System.arraycopy(data, from * slotSize, data, to * slotSize, slotSize);
+    }
+
+    /**
+     * Copies a slot into a slot of another arena with the same number of robots.
+     */
+    public void copyTo(int from, StateArena target, int to) {
+        if (target.robots != robots) {
+            throw new IllegalArgumentException("Arenas hold " + robots + " and " + target.robots + " robots");
+        }
+        System.arraycopy(data, from * slotSize, target.data, to * target.slotSize, slotSize);
+    }
+
+    /**
+     * @return true if both slots hold exactly the same state.
+     */
+    public boolean sameState(int slot, int other) {
+        int a = slot * slotSize;
+        int b = other * slotSize;
+        for (int i = 0; i < slotSize; i++) {
+            if (data[a + i] != data[b + i]) return false;
+        }
+        return true;
+    }
+
+    public void clear(int slot) {
+        Arrays.fill(data, slot * slotSize, (slot + 1) * slotSize, 0);
+    }
+
+    public int getRobots() {
+        return robots;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+}
@@ -0,0 +1,211 @@
+package inf112.roborally.game.board;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a Tiled .tmx map straight into a {@link BoardGrid}, without libGDX. This is for the headless core:
+ * tests, batch runs and benchmarks. The game compiles its grid from the map it has already loaded for drawing.
+ * <p>
+ * Only what the rules need is read: the tile properties of the tile sets and the
+ * tiles of each layer. Rows are flipped the same way as the game's TmxMapLoader does it,
+ * so y = 0 is the bottom row of the map.
+ */
+public class TmxBoardReader {
+    private static final int FLIP_HORIZONTALLY = 0x80000000;
+    private static final int FLIP_VERTICALLY = 0x40000000;
+    private static final int FLIP_DIAGONALLY = 0x20000000;
+    private static final int GID_BITS = ~(FLIP_HORIZONTALLY | FLIP_VERTICALLY | FLIP_DIAGONALLY);
+
+    private static final BoardGrid.TileProperties NO_PROPERTIES = new BoardGrid.TileProperties() {
+        @Override
+        public String get(String key) {
+            return null;
+        }
+    };
+
+    private TmxBoardReader() {
+    }
+
+    /**
+     * @param mapPath path to the .tmx file, e.g. "assets/maps/vault.tmx"
+     * @return the compiled board
+     * @throws IllegalArgumentException if the map can not be read
+     */
+    public static BoardGrid read(String mapPath) {
+        File mapFile = new File(mapPath);
+        try {
+            Element map = parse(mapFile).getDocumentElement();
+            int width = Integer.parseInt(map.getAttribute("width"));
+            int height = Integer.parseInt(map.getAttribute("height"));
+
+            HashMap<Integer, BoardGrid.TileProperties> tiles = new HashMap<>();
+            NodeList tileSets = map.getElementsByTagName("tileset");
+            for (int i = 0; i < tileSets.getLength(); i++) {
+                readTileSet((Element) tileSets.item(i), mapFile.getParentFile(), tiles);
+            }
+
+            BoardGrid grid = new BoardGrid(width, height);
+            NodeList layers = map.getElementsByTagName("layer");
+            for (int i = 0; i < layers.getLength(); i++) {
+                readLayer((Element) layers.item(i), width, height, tiles, grid);
+            }
+            grid.finish();
+            return grid;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not read map " + mapPath, e);
+        }
+    }
+
+    private static Document parse(File file) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+    }
+
+    private static void readTileSet(Element tileSet, File mapDirectory, HashMap<Integer, BoardGrid.TileProperties> tiles)
+            throws Exception {
+        int firstGid = Integer.parseInt(tileSet.getAttribute("firstgid"));
+        if (!tileSet.getAttribute("source").isEmpty()) {
+            tileSet = parse(new File(mapDirectory, tileSet.getAttribute("source"))).getDocumentElement();
+        }
+
+        NodeList tileList = tileSet.getElementsByTagName("tile");
+        for (int i = 0; i < tileList.getLength(); i++) {
+            Element tile = (Element) tileList.item(i);
+            final HashMap<String, String> properties = new HashMap<>();
+            NodeList propertyList = tile.getElementsByTagName("property");
+            for (int j = 0; j < propertyList.getLength(); j++) {
+                Element property = (Element) propertyList.item(j);
+                properties.put(property.getAttribute("name"), property.getAttribute("value"));
+            }
+            tiles.put(firstGid + Integer.parseInt(tile.getAttribute("id")), new BoardGrid.TileProperties() {
+                @Override
+                public String get(String key) {
+                    return properties.get(key);
+                }
+            });
+        }
+    }
+
+    private static void readLayer(Element layer, int width, int height,
+                                  HashMap<Integer, BoardGrid.TileProperties> tiles, BoardGrid grid) throws IOException {
+        Element data = (Element) layer.getElementsByTagName("data").item(0);
+        int[] gids = readGids(data, width * height);
+        String name = layer.getAttribute("name");
+
+        for (int i = 0; i < gids.length; i++) {
+            int gid = gids[i] & GID_BITS;
+            if (gid == 0) continue;
+
+            BoardGrid.TileProperties properties = tiles.get(gid);
+            int x = i % width;
+            int y = height - 1 - i / width;
+            grid.compileCell(name, x, y, properties == null ? NO_PROPERTIES : properties, isFlipped(gids[i]));
+        }
+    }
+
+    /**
+     * Follows how libGDX turns the flip bits into a cell: diagonal flips become rotations,
+     * and only some of them leave the cell flipped.
+     */
+    private static boolean isFlipped(int gid) {
+        boolean horizontally = (gid & FLIP_HORIZONTALLY) != 0;
+        boolean vertically = (gid & FLIP_VERTICALLY) != 0;
+        if ((gid & FLIP_DIAGONALLY) != 0) return horizontally == vertically;
+        return horizontally || vertically;
+    }
+
+    private static int[] readGids(Element data, int size) throws IOException {
+        int[] gids = new int[size];
+        String encoding = data.getAttribute("encoding");
+
+        if (encoding.isEmpty()) {
+            NodeList tileList = data.getElementsByTagName("tile");
+            for (int i = 0; i < tileList.getLength() && i < size; i++) {
+                String gid = ((Element) tileList.item(i)).getAttribute("gid");
+                gids[i] = gid.isEmpty() ? 0 : (int) Long.parseLong(gid);
+            }
+        } else if (encoding.equals("csv")) {
+            String[] values = data.getTextContent().trim().split("\\s*,\\s*");
+            for (int i = 0; i < values.length && i < size; i++) {
+                gids[i] = (int) Long.parseLong(values[i].trim());
+            }
+        } else if (encoding.equals("base64")) {
+            byte[] bytes = inflate(decodeBase64(data.getTextContent()), data.getAttribute("compression"));
+            for (int i = 0; i < size && i * 4 + 3 < bytes.length; i++) {
+                gids[i] = (bytes[i * 4] & 0xFF)
+                        | (bytes[i * 4 + 1] & 0xFF) << 8
+                        | (bytes[i * 4 + 2] & 0xFF) << 16
+                        | (bytes[i * 4 + 3] & 0xFF) << 24;
+            }
+        } else {
+            throw new IOException("Unsupported layer encoding: " + encoding);
+        }
+        return gids;
+    }
+
+    private static byte[] inflate(byte[] bytes, String compression) throws IOException {
+        InputStream in;
+        switch (compression) {
+            case "":
+                return bytes;
+            case "zlib":
+                in = new InflaterInputStream(new ByteArrayInputStream(bytes));
+                break;
+            case "gzip":
+                in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+                break;
+            default:
+                throw new IOException("Unsupported layer compression: " + compression);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Java 7 has no public base64 decoder, so this is a plain one. Whitespace and padding are skipped.
+     */
+    static byte[] decodeBase64(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(text.length() * 3 / 4);
+        int buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int value = base64Value(text.charAt(i));
+            if (value < 0) continue;
+
+            buffer = buffer << 6 | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out.write(buffer >> bits & 0xFF);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int base64Value(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+        if (c >= '0' && c <= '9') return c - '0' + 52;
+        if (c == '+') return 62;
+        if (c == '/') return 63;
+        return -1;
+    }
+}
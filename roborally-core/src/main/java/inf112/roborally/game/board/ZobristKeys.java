@@ -0,0 +1,108 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+
+/**
+ * The random keys one robot slot uses for Zobrist hashing.
+ * <p>
+ * A robot's hash is the xor of one key per feature, e.g. the key for its cell, the key for its direction
+ * and so on. When a feature changes the old key is xored out and the new one in, so the hash is always
+ * up to date without walking the robot.
+ * <p>
+ * Keys are made from the slot, the feature and the value with a fixed seed, so two games that add
+ * their robots in the same order get the same hashes for the same state.
+ */
+public class ZobristKeys {
+    public static final int POSITION = 0;
+    public static final int DIRECTION = 1;
+    public static final int DAMAGE = 2;
+    public static final int LIVES = 3;
+    public static final int TARGET_FLAG = 4;
+    private static final int LOCKED_CARD = 5;
+    private static final int FEATURES = 5;
+    private static final int CARD_KEYS = ProgramCard.DECK_SIZE + 1; // every card and none
+    private static final int VALUES = 16;
+    private static final long SEED = 0x526F626F52616C6CL;
+
+    private final int slot;
+    private final int width;
+    private final int height;
+    private final long[] positionKeys;
+    private final long[] featureKeys;
+    private final long[] lockedCardKeys;
+
+    /**
+     * Positions one step outside the board get a key from the table as well, since robots stand there
+     * for a moment before they are destroyed.
+     *
+     * @param slot   the robot's slot on the board
+     * @param width  width of the board
+     * @param height height of the board
+     */
+    public ZobristKeys(int slot, int width, int height) {
+        this.slot = slot;
+        this.width = width + 2;
+        this.height = height + 2;
+        positionKeys = new long[this.width * this.height];
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
+                positionKeys[y * this.width + x] = makeKey(POSITION, cell(x - 1, y - 1));
+            }
+        }
+        featureKeys = new long[FEATURES * VALUES];
+        for (int feature = DIRECTION; feature < FEATURES; feature++) {
+            for (int value = 0; value < VALUES; value++) {
+                featureKeys[feature * VALUES + value] = makeKey(feature, value);
+            }
+        }
+        lockedCardKeys = new long[ProgramRegisters.NUMBER_OF_REGISTERS * CARD_KEYS];
+        for (int i = 0; i < lockedCardKeys.length; i++) {
+            lockedCardKeys[i] = makeKey(LOCKED_CARD, i);
+        }
+    }
+
+    public long position(int x, int y) {
+        int tableX = x + 1;
+        int tableY = y + 1;
+        if (tableX < 0 || tableY < 0 || tableX >= width || tableY >= height) return makeKey(POSITION, cell(x, y));
+        return positionKeys[tableY * width + tableX];
+    }
+
+    /**
+     * @param feature one of the features other than {@link #POSITION}
+     * @param value   the value of the feature
+     */
+    public long key(int feature, int value) {
+        if (value < 0 || value >= VALUES) return makeKey(feature, value);
+        return featureKeys[feature * VALUES + value];
+    }
+
+    /**
+     * Every locked register adds the key of the card that is locked in it, so robots with different cards locked
+     * hash differently.
+     *
+     * @param card the {@link ProgramCard#getId() id} of the card, -1 for none
+     */
+    public long lockedCard(int register, int card) {
+        return lockedCardKeys[register * CARD_KEYS + card + 1];
+    }
+
+    private static int cell(int x, int y) {
+        return (y & 0xFFFF) << 16 | (x & 0xFFFF);
+    }
+
+    private long makeKey(int feature, int value) {
+        return mix(mix(mix(SEED + slot) + feature) + value);
+    }
+
+    /**
+     * The SplitMix64 finalizer, every input bit affects every output bit.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
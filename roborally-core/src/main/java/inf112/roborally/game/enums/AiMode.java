@@ -0,0 +1,28 @@
+package inf112.roborally.game.enums;
+
+/**
+ * How the AI picks its cards.
+ */
+public enum AiMode {
+    /**
+     * Goes through the hand once and keeps every card that brings the robot closer to its flag.
+     */
+    GREEDY,
+    /**
+     * Plays out every program the hand allows and picks the best one.
+     */
+    EXHAUSTIVE;
+
+    /**
+     * Set this system property to choose how the AI plays, e.g. -Droborally.ai=exhaustive
+     */
+    public static final String AI_PROPERTY = "roborally.ai";
+
+    /**
+     * @return the mode in {@link #AI_PROPERTY}, greedy if it is not set.
+     */
+    public static AiMode create() {
+        String mode = System.getProperty(AI_PROPERTY);
+        return mode == null ? GREEDY : valueOf(mode.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,22 @@
+package inf112.roborally.game.enums;
+
+/**
+ * Why a robot lost a life.
+ */
+public enum DeathCause {
+    EDGE("fell off the edge"),
+    HOLE("fell into a hole"),
+    BOARD_LASER("shot by a board laser"),
+    ROBOT_LASER("shot by a robot");
+
+    private final String description;
+
+    DeathCause(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
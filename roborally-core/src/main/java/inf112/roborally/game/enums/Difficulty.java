@@ -0,0 +1,41 @@
+package inf112.roborally.game.enums;
+
+/**
+ * How long the AI may think about its cards each round.
+ * Only the exhaustive AI uses the time, the greedy AI is done long before.
+ */
+public enum Difficulty {
+    EASY(2),
+    NORMAL(10),
+    HARD(50),
+    /**
+     * Thinks until it has tried every program, so the same game always plays out the same.
+     */
+    UNLIMITED(0);
+
+    /**
+     * Set this system property to choose the difficulty, e.g. -Droborally.difficulty=hard
+     */
+    public static final String DIFFICULTY_PROPERTY = "roborally.difficulty";
+
+    private final long budgetMillis;
+
+    Difficulty(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * @return milliseconds the AI robots may use to pick their cards each round, 0 for no limit.
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * @return the difficulty in {@link #DIFFICULTY_PROPERTY}, normal if it is not set.
+     */
+    public static Difficulty create() {
+        String difficulty = System.getProperty(DIFFICULTY_PROPERTY);
+        return difficulty == null ? NORMAL : valueOf(difficulty.trim().toUpperCase());
+    }
+}
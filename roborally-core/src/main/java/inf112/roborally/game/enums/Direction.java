@@ -11,6 +11,8 @@ public enum Direction {
     SOUTH(2, 0),
     WEST(3, 270);
 
+    private static final Direction[] BY_VALUE = {NORTH, EAST, SOUTH, WEST};
+
     static {
         NORTH.opposite = SOUTH;
         SOUTH.opposite = NORTH;
@@ -31,6 +33,16 @@ public enum Direction {
         return value;
     }
 
+    /**
+     * Inverse of {@link #toInt()}.
+     *
+     * @param value 0 for north, 1 for east, 2 for south and 3 for west
+     * @return the direction with the given value
+     */
+    public static Direction fromInt(int value) {
+        return BY_VALUE[value];
+    }
+
     public int getRotationDegree() {
         return rotationDegree;
     }
@@ -0,0 +1,29 @@
+package inf112.roborally.game.enums;
+
+/**
+ * How fast a game is played back. At instant speed a whole round is played in one go.
+ */
+public enum GameSpeed {
+    NORMAL(1),
+    DOUBLE(2),
+    FAST(8),
+    INSTANT(0);
+
+    private final int multiplier;
+
+    GameSpeed(int multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * @return how many times faster than normal the game runs, 0 for instant.
+     */
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    @Override
+    public String toString() {
+        return this == INSTANT ? "instant" : multiplier + "x";
+    }
+}
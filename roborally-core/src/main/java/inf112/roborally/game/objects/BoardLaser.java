@@ -0,0 +1,39 @@
+package inf112.roborally.game.objects;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.Robot;
+
+public class BoardLaser extends GameObject {
+    private final Direction direction;
+
+    /**
+     * A laser mounted on the board. It fires once every phase, hitting the first robot in its way.
+     *
+     * @param x         position x
+     * @param y         position y
+     * @param direction the direction the beam travels in
+     */
+    public BoardLaser(int x, int y, Direction direction) {
+        super(x, y);
+        this.direction = direction;
+    }
+
+    /**
+     * @return the robot that was hit, null if the beam was stopped by a wall or the edge of the board.
+     */
+    public Robot fire(RulesBoard<?> board) {
+        int steps = board.stepsToRobot(getX(), getY(), direction, 0);
+        if (steps == -1) return null;
+
+        Robot robot = board.getRobotAt(getX() + BoardGrid.dx(direction) * steps,
+                getY() + BoardGrid.dy(direction) * steps, null);
+        robot.takeDamage();
+        return robot;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+}
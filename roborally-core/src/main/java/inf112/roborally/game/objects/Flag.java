@@ -0,0 +1,21 @@
+package inf112.roborally.game.objects;
+
+public class Flag extends GameObject {
+    private int flagNumber;
+
+    /**
+     * Flags are visited in order of their number. The game draws them from the flag atlas.
+     *
+     * @param x          position x
+     * @param y          position y
+     * @param flagNumber which flag this is, starting at 1
+     */
+    public Flag(int x, int y, int flagNumber) {
+        super(x, y);
+        this.flagNumber = flagNumber;
+    }
+
+    public int getFlagNumber() {
+        return flagNumber;
+    }
+}
@@ -0,0 +1,36 @@
+package inf112.roborally.game.objects;
+
+public abstract class GameObject {
+    public Position position;
+
+    /**
+     * Objects on the board that are not on the TiledMap.
+     * It only has a position, how the object is drawn is up to the game.
+     *
+     * @param x position x
+     * @param y position y
+     */
+    public GameObject(int x, int y) {
+        position = new Position(x, y);
+    }
+
+    public GameObject(Position position) {
+        this.position = position;
+    }
+
+    public void move(int x, int y) {
+        position.move(x, y);
+    }
+
+    public void moveToPosition(Position position) {
+        this.position.move(position.getX(), position.getY());
+    }
+
+    public int getX() {
+        return position.getX();
+    }
+
+    public int getY() {
+        return position.getY();
+    }
+}
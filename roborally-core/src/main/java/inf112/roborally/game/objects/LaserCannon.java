@@ -1,45 +1,43 @@
 package inf112.roborally.game.objects;
 
-import inf112.roborally.game.board.Board;
-import inf112.roborally.game.player.Player;
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.player.Robot;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class LaserCannon extends MovableGameObject {
-    private Player gunOwner;
+    private Robot gunOwner;
 
-    public LaserCannon(Player player) {
+    public LaserCannon(Robot player) {
         super(player.getX(), player.getY());
         this.gunOwner = player;
     }
 
-    public void fire(Board board) {
-        if (!gunOwner.isOperational()) return;
+    /**
+     * @return the robot that was hit, null if nothing was.
+     */
+    public Robot fire(RulesBoard<?> board) {
+        if (!gunOwner.isOperational()) return null;
 
         correctPositionBeforeFire();
-        while (this.canGo(this.getDirection(), board.getWallLayer())) {
-            this.moveInDirection(this.getDirection());
-            for (Player target : board.getPlayers()) {
-                if (this.position.equals(target.position)) {
-                    target.takeDamage();
-                    System.out.println(gunOwner.getName() + " shoots " + target.getName());
-                    return;
-                }
-            }
-            if (outOfBounds(board)) {
-                break;
-            }
-        }
+        int steps = board.stepsToRobot(getX(), getY(), getDirection(), 1);
+        if (steps == -1) return null;
+
+        Robot target = board.getRobotAt(getX() + BoardGrid.dx(getDirection()) * steps,
+                getY() + BoardGrid.dy(getDirection()) * steps, null);
+        target.takeDamage();
+        return target;
     }
 
     /**
      * For testing only! this method can fire through walls
      */
-    void fire(ArrayList<Player> targets) {
+    void fire(List<? extends Robot> targets) {
         correctPositionBeforeFire();
         while (getX() >= 0 && getX() < 10 && getY() >= 0 && getY() < 10) {
             this.moveInDirection(this.getDirection());
-            for (Player target : targets) {
+            for (Robot target : targets) {
                 if (this.position.equals(target.position)) {
                     target.takeDamage();
                     System.out.println(gunOwner.getName() + " shoots " + target.getName());
@@ -0,0 +1,90 @@
+package inf112.roborally.game.objects;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.player.Robot;
+
+public class MovableGameObject extends GameObject {
+    private Direction direction;
+
+    /**
+     * A GameObject that is facing a certain direction and can move in
+     * said direction. It can also rotate. Facing south by default.
+     *
+     * @param x position x
+     * @param y position y
+     */
+    public MovableGameObject(int x, int y) {
+        super(x, y);
+        direction = Direction.SOUTH;
+    }
+
+    public void move(int steps) {
+        for (int i = 0; i < steps; i++)
+            moveInDirection(getDirection());
+    }
+
+    public void moveInDirection(Direction dir) {
+        position.moveInDirection(dir);
+    }
+
+    /**
+     * Rotates the object.
+     *
+     * @param rotateDir which direction the player should rotate.
+     */
+    public void rotate(Rotate rotateDir) {
+        setDirection(direction.rotate(rotateDir));
+    }
+
+    public boolean isOffTheBoard(BoardGrid grid) {
+        return grid.isOffTheBoard(getX(), getY());
+    }
+
+    public boolean isOnRepair(BoardGrid grid) {
+        return grid.isOnRepair(getX(), getY());
+    }
+
+    public boolean isOnOption(BoardGrid grid) {
+        return grid.isOnOption(getX(), getY());
+    }
+
+    public boolean isOnExpressBelt(BoardGrid grid) {
+        return grid.isOnExpressBelt(getX(), getY());
+    }
+
+    public boolean isOnBelt(BoardGrid grid) {
+        return grid.isOnBelt(getX(), getY());
+    }
+
+    public boolean canGo(Direction direction, BoardGrid grid) {
+        return grid.canGo(getX(), getY(), direction);
+    }
+
+    public boolean crashWithRobot(Direction direction, RulesBoard<?> board) {
+        return board.getRobotAt(getX() + BoardGrid.dx(direction), getY() + BoardGrid.dy(direction), this) != null;
+    }
+
+    protected boolean canPush(Direction direction, RulesBoard<?> board) {
+        int nextX = getX() + BoardGrid.dx(direction);
+        int nextY = getY() + BoardGrid.dy(direction);
+        Robot other;
+        while ((other = board.getRobotAt(nextX, nextY, this)) != null) {
+            if (!other.canGo(direction, board.getGrid()) || !other.canPush(direction, board)) {
+                return false;
+            }
+            other.moveInDirection(direction);
+        }
+        return true;
+    }
+
+    public Direction getDirection() {
+        return this.direction;
+    }
+
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+}
@@ -11,6 +11,7 @@ import java.io.Serializable;
 public class Position implements Serializable {
     private int x;
     private int y;
+    private transient Listener listener;
 
     public Position(int x, int y) {
         this.x = x;
@@ -20,24 +21,29 @@ public class Position implements Serializable {
     Position moveInDirection(Direction dir) {
         switch (dir) {
             case NORTH:
-                setY(getY() + 1);
+                set(x, y + 1);
                 return this;
             case SOUTH:
-                setY(getY() - 1);
+                set(x, y - 1);
                 return this;
             case EAST:
-                setX(getX() + 1);
+                set(x + 1, y);
                 return this;
             case WEST:
-                setX(getX() - 1);
+                set(x - 1, y);
                 return this;
         }
         return this;
     }
 
     public void move(int x, int y) {
-        setX(x);
-        setY(y);
+        set(x, y);
+    }
+
+    private void set(int x, int y) {
+        this.x = x;
+        this.y = y;
+        if (listener != null) listener.positionChanged(x, y);
     }
 
     public int getX() {
@@ -45,7 +51,7 @@ public class Position implements Serializable {
     }
 
     public void setX(int x) {
-        this.x = x;
+        set(x, y);
     }
 
     public int getY() {
@@ -53,12 +59,18 @@ public class Position implements Serializable {
     }
 
     public void setY(int y) {
-        this.y = y;
+        set(x, y);
     }
 
     public void setPosition(Position position) {
-        x = position.getX();
-        y = position.getY();
+        set(position.getX(), position.getY());
+    }
+
+    /**
+     * @param listener is told every time this position changes, null to stop listening.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
     }
 
     Position copy() {
@@ -70,4 +82,8 @@ public class Position implements Serializable {
         Position that = (Position) other;
         return this.x == that.x && this.y == that.y;
     }
+
+    public interface Listener {
+        void positionChanged(int x, int y);
+    }
 }
@@ -1,7 +1,5 @@
 package inf112.roborally.game.objects;
 
-import org.jetbrains.annotations.NotNull;
-
 public class StartPosition implements Comparable {
 
     public Position position;
@@ -13,7 +11,7 @@ public class StartPosition implements Comparable {
     }
 
     @Override
-    public int compareTo(@NotNull Object o) {
+    public int compareTo(Object o) {
         StartPosition other = (StartPosition) o;
         return this.startNumber.compareTo(other.startNumber);
     }
@@ -0,0 +1,28 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.objects.GameObject;
+
+public class Backup extends GameObject {
+
+    private final Robot player;
+
+    /**
+     * A BACKUP is an object with an x and a y value
+     * it servers as a checkpoint, intended uses is when a player gets destroyed the
+     * backup moves the player to its current position.
+     *
+     * @param player owner of backup
+     */
+    public Backup(Robot player) {
+        super(player.getX(), player.getY());
+        this.player = player;
+    }
+
+    void movePlayerToBackup() {
+        player.moveToPosition(this.position);
+    }
+
+    public void moveToPlayerPosition() {
+        moveToPosition(player.position);
+    }
+}
@@ -4,9 +4,9 @@ import java.util.ArrayList;
 
 public class PlayerHand {
     private ArrayList<ProgramCard> cardsInHand;
-    private Player player;
+    private Robot player;
 
-    public PlayerHand(Player player) {
+    public PlayerHand(Robot player) {
         this.player = player;
         cardsInHand = new ArrayList<>();
     }
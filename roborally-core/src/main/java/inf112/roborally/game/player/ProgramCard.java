@@ -0,0 +1,177 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.enums.Rotate;
+
+import java.util.Stack;
+
+/**
+ * A program card never changes. The 84 cards of the deck exist once each and are shared,
+ * they are found from their id with {@link #fromId(int)}.
+ */
+public class ProgramCard implements Comparable {
+    public static final int DECK_SIZE = 84;
+    private static final Rotate[] ROTATIONS = Rotate.values();
+    private static final ProgramCard[] STANDARD_CARDS = makeStandardCards();
+
+    private final Rotate rotate;
+    private final int moveDistance;
+    private final int priority;
+
+    /**
+     * Creates a program card.
+     *
+     * @param rotate       which rotation the card should have
+     * @param moveDistance how many steps to move
+     * @param priority     card priority
+     */
+    public ProgramCard(Rotate rotate, int moveDistance, int priority) {
+        this.rotate = rotate;
+        this.moveDistance = moveDistance;
+        this.priority = priority;
+    }
+
+    /**
+     * Reads a card written with {@link #toString()}, e.g. from a network message.
+     *
+     * @return the shared card if it is one of the deck's cards, a new card if not.
+     */
+    public static ProgramCard valueOf(String rotate, String move, String priority) {
+        return valueOf(Rotate.valueOf(rotate.trim()), Integer.parseInt(move.trim()), Integer.parseInt(priority.trim()));
+    }
+
+    private static ProgramCard valueOf(Rotate rotate, int moveDistance, int priority) {
+        if (priority % 10 == 0 && priority >= 10 && priority <= 10 * DECK_SIZE) {
+            ProgramCard card = STANDARD_CARDS[priority / 10 - 1];
+            if (card.rotate == rotate && card.moveDistance == moveDistance) return card;
+        }
+        return new ProgramCard(rotate, moveDistance, priority);
+    }
+
+    /**
+     * @param id a card id from 0 to {@link #DECK_SIZE} - 1
+     * @return the deck's card with that id
+     */
+    public static ProgramCard fromId(int id) {
+        return STANDARD_CARDS[id];
+    }
+
+    /**
+     * @return the id of this card in the deck, or -1 if it is not one of the deck's cards.
+     */
+    public int getId() {
+        if (priority % 10 != 0 || priority < 10 || priority > 10 * DECK_SIZE) return -1;
+
+        ProgramCard card = STANDARD_CARDS[priority / 10 - 1];
+        return card.rotate == rotate && card.moveDistance == moveDistance ? priority / 10 - 1 : -1;
+    }
+
+    private static Stack<ProgramCard> makeOrderedDeck() {
+        Stack<ProgramCard> cardStack = new Stack<>();
+        // Adding cards that rotate:
+        for (int priority = 10; priority <= 60; priority += 10) {
+            // 180
+            cardStack.push(new ProgramCard(Rotate.UTURN, 0, priority));
+        }
+        for (int priority = 80; priority <= 420; priority += 20) {
+            // Right
+            cardStack.push(new ProgramCard(Rotate.RIGHT, 0, priority - 10));
+            // Left
+            cardStack.push(new ProgramCard(Rotate.LEFT, 0, priority));
+        }
+
+        // Adding cards that move:
+        // Backwards
+        for (int priority = 430; priority <= 480; priority += 10) {
+            cardStack.push(new ProgramCard(Rotate.NONE, -1, priority));
+        }
+        // Forwards 1
+        for (int priority = 490; priority <= 660; priority += 10) {
+            cardStack.push(new ProgramCard(Rotate.NONE, 1, priority));
+        }
+        // Forwards 2
+        for (int priority = 670; priority <= 780; priority += 10) {
+            cardStack.push(new ProgramCard(Rotate.NONE, 2, priority));
+        }
+        // Forwards 3
+        for (int priority = 790; priority <= 840; priority += 10) {
+            cardStack.push(new ProgramCard(Rotate.NONE, 3, priority));
+        }
+        return cardStack;
+    }
+
+    /**
+     * Every card of the deck has its own priority, 10 to 840 in steps of 10.
+     *
+     * @return one card of each kind, indexed by priority / 10 - 1
+     */
+    private static ProgramCard[] makeStandardCards() {
+        ProgramCard[] cards = new ProgramCard[DECK_SIZE];
+        for (ProgramCard card : makeOrderedDeck()) {
+            cards[card.priority / 10 - 1] = card;
+        }
+        return cards;
+    }
+
+    /**
+     * Packs the card into a single int that is never 0, so 0 can mean "no card".
+     *
+     * @see #unpack(int)
+     */
+    public int pack() {
+        return priority << 8 | rotate.ordinal() << 6 | (moveDistance + 2);
+    }
+
+    /**
+     * Cards from the standard deck are shared instead of created, so unpacking them does not allocate.
+     *
+     * @param packed a value from {@link #pack()}, or 0
+     * @return the card, null if packed is 0
+     */
+    public static ProgramCard unpack(int packed) {
+        if (packed == 0) return null;
+
+        return valueOf(ROTATIONS[(packed >> 6) & 0x3], (packed & 0x3F) - 2, packed >>> 8);
+    }
+
+    public boolean isRotate() {
+        return rotate != Rotate.NONE;
+    }
+
+    public int getMoveDistance() {
+        return this.moveDistance;
+    }
+
+    public Rotate getRotate() {
+        return this.rotate;
+    }
+
+    public int getPriority() {
+        return this.priority;
+    }
+
+    @Override
+    public String toString() {
+        return rotate.toString() + " " + moveDistance + " " + priority;
+    }
+
+    /**
+     * @return the name of the card's picture, the rotation for rotation cards and the distance for move cards.
+     */
+    public String identify() {
+        if (rotate != Rotate.NONE) { // rotation card
+            return rotate.toString();
+        } else { // move card
+            return Integer.toString(moveDistance);
+        }
+    }
+
+    @Override
+    public int compareTo(Object o) {
+        if (this.getClass() != o.getClass())
+            return 0;
+        ProgramCard other = (ProgramCard) o;
+        if (this.getPriority() > other.getPriority())
+            return -1;
+        return 1;
+    }
+}
@@ -0,0 +1,100 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.tools.GameRandom;
+
+/**
+ * The deck of program cards, kept as card ids in a single int array.
+ * <p>
+ * Cards still in the deck are at the end of the array, from the cursor and out. Cards that are given back
+ * are written to the start of the array, into the room left by the cards that were dealt. When the deck runs
+ * out the returned cards are shuffled in place and become the new deck, so dealing never allocates.
+ *
+ * @see ProgramCard#fromId(int)
+ */
+public class ProgramCardDeck {
+    private final int[] cards;
+    private final GameRandom random;
+    private int cursor;
+    private int returned;
+
+    /**
+     * Makes a shuffled deck of all {@link ProgramCard#DECK_SIZE} cards.
+     *
+     * @param random the game's random stream, the same stream always deals the same cards
+     */
+    public ProgramCardDeck(GameRandom random) {
+        this.random = random;
+        cards = new int[ProgramCard.DECK_SIZE];
+        for (int id = 0; id < cards.length; id++) {
+            cards[id] = id;
+        }
+        shuffle(0, cards.length);
+    }
+
+    /**
+     * Deals the top card. If the deck is empty the returned cards are shuffled into a new deck first.
+     *
+     * @throws IllegalStateException if every card has been dealt and none are returned
+     */
+    public ProgramCard deal() {
+        if (cursor == cards.length) reshuffle();
+        if (cursor == cards.length) throw new IllegalStateException("There are no cards left to deal");
+
+        return ProgramCard.fromId(cards[cursor++]);
+    }
+
+    /**
+     * Puts a card on the pile of returned cards, it is dealt again after the deck runs out.
+     *
+     * @throws IllegalArgumentException if the card is not one of the deck's cards
+     * @throws IllegalStateException    if more cards are returned than have been dealt
+     */
+    public void returnCard(ProgramCard card) {
+        int id = card.getId();
+        if (id < 0) throw new IllegalArgumentException("Not a card from the deck: " + card);
+        if (returned == cursor) throw new IllegalStateException("More cards returned than dealt: " + card);
+
+        cards[returned++] = id;
+    }
+
+    /**
+     * Moves the returned cards to the end of the array and shuffles them.
+     */
+    private void reshuffle() {
+        int start = cards.length - returned;
+        System.arraycopy(cards, 0, cards, start, returned);
+        cursor = start;
+        returned = 0;
+        shuffle(start, cards.length);
+    }
+
+    /**
+     * Fisher-Yates on cards[from, to)
+     */
+    private void shuffle(int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            int swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+
+    /**
+     * @return how many cards can be dealt before the deck is reshuffled.
+     */
+    public int size() {
+        return cards.length - cursor;
+    }
+
+    /**
+     * @return where the next card is dealt from, the deck runs out at {@link ProgramCard#DECK_SIZE}.
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    public int getReturnedCount() {
+        return returned;
+    }
+}
@@ -7,13 +7,13 @@ public class ProgramRegisters implements IProgramRegisters {
     public static final int NUMBER_OF_REGISTERS = 5;
     public static final int MAX_NUMBER_OF_CARDS = 9;
 
-    private final Player player;
+    private final Robot player;
 
     private int unlockedRegisters;
     private ProgramCard[] registers;
 
 
-    public ProgramRegisters(Player player) {
+    public ProgramRegisters(Robot player) {
         this.player = player;
         registers = new ProgramCard[NUMBER_OF_REGISTERS];
         unlockedRegisters = NUMBER_OF_REGISTERS;
@@ -90,7 +90,7 @@ public class ProgramRegisters implements IProgramRegisters {
     @Override
     public void lock() {
         if (unlockedRegisters > 0 && unlockedRegisters <= NUMBER_OF_REGISTERS)
-            unlockedRegisters--;
+            setUnlockedRegisters(unlockedRegisters - 1);
     }
 
     @Override
@@ -101,13 +101,13 @@ public class ProgramRegisters implements IProgramRegisters {
     @Override
     public void unlock() {
         if (unlockedRegisters >= 0 && unlockedRegisters < NUMBER_OF_REGISTERS) {
-            unlockedRegisters++;
+            setUnlockedRegisters(unlockedRegisters + 1);
         }
     }
 
     @Override
     public void unlockAll() {
-        unlockedRegisters = NUMBER_OF_REGISTERS;
+        setUnlockedRegisters(NUMBER_OF_REGISTERS);
     }
 
     /**
@@ -133,13 +133,18 @@ public class ProgramRegisters implements IProgramRegisters {
         }
         ProgramCard card = registers[index];
         player.getHand().receiveCard(card);
-        registers[index] = null;
+        setCard(index, null);
     }
 
     public ProgramCard getCard(int register) {
         return registers[register];
     }
 
+    void setCard(int register, ProgramCard card) {
+        if (isLocked(register)) player.lockedCardChanged(register, registers[register], card);
+        registers[register] = card;
+    }
+
     /**
      * Empty slots in the register are null values. Can return null.
      *
@@ -153,6 +158,15 @@ public class ProgramRegisters implements IProgramRegisters {
         return unlockedRegisters;
     }
 
+    void setNumUnlockedRegisters(int unlockedRegisters) {
+        setUnlockedRegisters(unlockedRegisters);
+    }
+
+    private void setUnlockedRegisters(int unlockedRegisters) {
+        player.unlockedRegistersChanged(this.unlockedRegisters, unlockedRegisters);
+        this.unlockedRegisters = unlockedRegisters;
+    }
+
     public boolean isEmpty() {
         for (ProgramCard register : registers) {
             if (register != null) return false;
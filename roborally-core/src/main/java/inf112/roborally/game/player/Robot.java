@@ -0,0 +1,537 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.board.StateArena;
+import inf112.roborally.game.board.ZobristKeys;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.objects.LaserCannon;
+import inf112.roborally.game.objects.MovableGameObject;
+import inf112.roborally.game.objects.Position;
+import inf112.roborally.game.tools.GameLog;
+
+import java.util.ArrayList;
+
+import static inf112.roborally.game.enums.PlayerState.*;
+
+/**
+ * Everything the game rules need to know about a robot: where it is, its damage, lives, flags,
+ * hand and registers. Drawing the robot is left to subclasses, so the rules can run without a screen.
+ */
+public class Robot extends MovableGameObject implements Comparable {
+    public static final int MAX_DAMAGE = 10;
+    private static final int MAX_LIVES = 3;
+    private static final PlayerState[] PLAYER_STATES = PlayerState.values();
+
+    public boolean wantsToPowerDown;
+    public ArrayList<ProgramCard> toPlay;
+    private PlayerState playerState;
+    private LaserCannon laserCannon;
+    private String name;
+    private int lives;
+    private int damage;
+    private Backup backup;
+    private RulesBoard<?> board;
+    private int targetFlag;
+    private int nFlags;
+    private boolean screamed;  //Whether or not the player has screamed from falling off the map this round.
+    private int phase;
+    private boolean debugging;
+    private ProgramRegisters registers;
+    private PlayerHand hand;
+    private ZobristKeys zobrist;
+    private long stateHash;
+    private int hashedX;
+    private int hashedY;
+
+    public Robot(String name, Direction direction, RulesBoard<?> board) {
+        this(0, 0);
+        this.name = name;
+        this.board = board;
+        setDirection(direction);
+        if (board != null) nFlags = board.getFlags().size();
+        else nFlags = 1;
+        phase = 0;
+        debugging = false;
+    }
+
+    /**
+     * Basic robot
+     */
+    private Robot(int x, int y) {
+        super(x, y);
+        damage = 0;
+        lives = MAX_LIVES;
+        targetFlag = 1;
+        nFlags = 1;
+        playerState = OPERATIONAL;
+        hand = new PlayerHand(this);
+        registers = new ProgramRegisters(this);
+        backup = new Backup(this);
+        laserCannon = new LaserCannon(this);
+    }
+
+    /**
+     * FOR TESTING ONLY
+     */
+    public Robot(int x, int y, int nFlags) {
+        this(x, y);
+        this.nFlags = nFlags;
+        name = "testBot";
+        debugging = true;
+    }
+
+    @Override
+    public void move(int steps) {
+        if (debugging) {
+            for (int i = 0; i < steps; i++) moveInDirection(getDirection());
+            return;
+        }
+
+        screamed = false;
+
+        for (int i = 0; i < steps; i++) {
+            if (canGo(getDirection(), board.getGrid()) && canPush(getDirection(), board)) {
+                moveInDirection(getDirection());
+            }
+        }
+        // every time a player moves we need to check if it is off the board or not
+        if (board != null && isOffTheBoard(board.getGrid())) { // need to check if board is null for tests to work
+            this.destroy();
+        }
+    }
+
+    public void reverse() {
+        if (debugging) {
+            moveInDirection(getDirection().getOppositeDirection());
+            return;
+        }
+
+        Direction directionToMoveIn = getDirection().getOppositeDirection();
+        if (canGo(directionToMoveIn, board.getGrid()) && canPush(directionToMoveIn, board))
+            moveInDirection(directionToMoveIn);
+        move(0);
+    }
+
+    public ArrayList<ProgramCard> returnCards() {
+        registers.returnCards();
+        return hand.getCardsInHand();
+    }
+
+    /**
+     * @return true if player was respawned
+     */
+    public boolean respawn() {
+        if (!isDestroyed()) return false; // Can only respawn dead robots
+
+        if (outOfLives()) {
+            GameLog.print(name, "is out of the game");
+            playerState = GAME_OVER;
+            return false;
+        }
+        else {
+            GameLog.print(name, "was respawned!");
+            repairAllDamage();
+            if (backup != null) {
+                backup.movePlayerToBackup();
+            }
+            playerState = OPERATIONAL;
+        }
+        return true;
+    }
+
+    public void powerDown() {
+        if (!wantsToPowerDown || !isOperational()) return;
+
+        playerState = POWERED_DOWN;
+        GameLog.print(name, "powers down");
+        wantsToPowerDown = false;
+    }
+
+    public void powerUp() {
+        if (isPoweredDown()) return;
+
+        repairAllDamage();
+        playerState = OPERATIONAL;
+        GameLog.print(name, "powers up");
+    }
+
+    /**
+     * Repairs all damage dealt to the player and unlocks all locked registers.
+     */
+    public void repairAllDamage() {
+        registers.unlockAll();
+        setDamage(0);
+    }
+
+    public void repairOneDamage() {
+        if (damage >= 5) {
+            registers.unlock();
+        }
+        if (damage > 0) {
+            setDamage(damage - 1);
+        }
+    }
+
+    /**
+     * Take one damage. Locks a register if damage taken is greater or equal to 5.
+     * Lose a life if damage taken is equal to MAX_DAMAGE.
+     */
+    public void takeDamage() {
+        if (isDestroyed()) return;
+
+        if (damage < MAX_DAMAGE && lives > 0) {
+            setDamage(damage + 1);
+
+            if (damage >= 5) {
+                registers.lock();
+            }
+        }
+        if (damage == MAX_DAMAGE) {
+            setLives(lives - 1);
+            playerState = DESTROYED;
+        }
+    }
+
+    public void visitFlag(int flagNumber) {
+        if (flagNumber > nFlags) return;
+
+        if (flagNumber == targetFlag) {
+            setTargetFlag(targetFlag + 1);
+            GameLog.print(name, "picked up a flag!");
+        }
+    }
+
+    public void destroy() {
+        if (isDestroyed()) return;
+
+        setDamage(MAX_DAMAGE);
+        playerState = DESTROYED;
+        setLives(lives - 1);
+    }
+
+    public boolean outOfLives() {
+        return lives < 1;
+    }
+
+    public boolean isDestroyed() {
+        return playerState == DESTROYED;
+    }
+
+    public boolean isGameOver() {
+        return playerState == GAME_OVER;
+    }
+
+    public boolean isReady() {
+        return playerState == POWERED_DOWN || playerState == READY;
+    }
+
+    public boolean isOperational() {
+        return playerState == OPERATIONAL;
+    }
+
+    public boolean isPoweredDown() {
+        return playerState != POWERED_DOWN;
+    }
+
+    public boolean hasScreamed() {
+        return !this.screamed;
+    }
+
+    public boolean hasWon() {
+        return targetFlag > nFlags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || other.getClass() != this.getClass())
+            return false;
+
+        return this.name.equals(((Robot) other).name);
+    }
+
+    @Override
+    public int compareTo(Object o) {
+        if (o == null) return 0;
+        Robot other = (Robot) o;
+        int thisPriority = registers.getCard(phase).getPriority();
+        int otherPriority = other.getRegisters().getCard(phase).getPriority();
+
+        return Integer.compare(thisPriority, otherPriority);
+    }
+
+    @Override
+    public void setDirection(Direction direction) {
+        if (getDirection() != null) rehash(ZobristKeys.DIRECTION, getDirection().toInt(), direction.toInt());
+        super.setDirection(direction);
+    }
+
+    private void setDamage(int damage) {
+        rehash(ZobristKeys.DAMAGE, this.damage, damage);
+        this.damage = damage;
+    }
+
+    private void setLives(int lives) {
+        rehash(ZobristKeys.LIVES, this.lives, lives);
+        this.lives = lives;
+    }
+
+    private void setTargetFlag(int targetFlag) {
+        rehash(ZobristKeys.TARGET_FLAG, this.targetFlag, targetFlag);
+        this.targetFlag = targetFlag;
+    }
+
+    /**
+     * Every register between the old and the new number of unlocked registers was locked or unlocked,
+     * so the key of its card goes into or out of the hash.
+     */
+    void unlockedRegistersChanged(int before, int after) {
+        if (zobrist == null) return;
+        for (int i = Math.min(before, after); i < Math.max(before, after); i++) {
+            stateHash ^= lockedCardKey(i, registers.getCard(i));
+        }
+    }
+
+    /**
+     * Called by the registers when the card in a locked register is changed.
+     */
+    void lockedCardChanged(int register, ProgramCard before, ProgramCard after) {
+        if (zobrist != null && before != after) {
+            stateHash ^= lockedCardKey(register, before) ^ lockedCardKey(register, after);
+        }
+    }
+
+    private long lockedCardKey(int register, ProgramCard card) {
+        return zobrist.lockedCard(register, card == null ? -1 : card.getId());
+    }
+
+    /**
+     * Swaps the key of one feature in the hash for the key of its new value.
+     */
+    private void rehash(int feature, int before, int after) {
+        if (zobrist != null && before != after) {
+            stateHash ^= zobrist.key(feature, before) ^ zobrist.key(feature, after);
+        }
+    }
+
+    /**
+     * Called by the board every time this robot's position changes.
+     */
+    public void rehashPosition(int x, int y) {
+        if (zobrist == null) return;
+
+        stateHash ^= zobrist.position(hashedX, hashedY) ^ zobrist.position(x, y);
+        hashedX = x;
+        hashedY = y;
+    }
+
+    /**
+     * Starts hashing this robot with the given keys, or stops if they are null.
+     */
+    public void setZobristKeys(ZobristKeys zobrist) {
+        this.zobrist = zobrist;
+        stateHash = zobrist == null ? 0 : computeStateHash();
+        hashedX = getX();
+        hashedY = getY();
+    }
+
+    /**
+     * Hashes this robot from scratch. Only needed when the keys change, after that the hash is kept
+     * up to date as the robot changes.
+     */
+    long computeStateHash() {
+        long hash = zobrist.position(getX(), getY())
+                ^ zobrist.key(ZobristKeys.DIRECTION, getDirection().toInt())
+                ^ zobrist.key(ZobristKeys.DAMAGE, damage)
+                ^ zobrist.key(ZobristKeys.LIVES, lives)
+                ^ zobrist.key(ZobristKeys.TARGET_FLAG, targetFlag);
+        for (int i = registers.getNumUnlockedRegisters(); i < ProgramRegisters.NUMBER_OF_REGISTERS; i++) {
+            hash ^= lockedCardKey(i, registers.getCard(i));
+        }
+        return hash;
+    }
+
+    /**
+     * @return the Zobrist hash of position, direction, damage, lives, target flag and the cards in the locked
+     * registers, 0 if the robot is not on a board.
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    public void setScreamed(boolean b) {
+        screamed = b;
+    }
+
+    public void setPhase(int phase) {
+        this.phase = phase;
+    }
+
+    public boolean isDebuggingActive() {
+        return debugging;
+    }
+
+    public LaserCannon getLaserCannon() {
+        return laserCannon;
+    }
+
+    public int getCardLimit() {
+        return ProgramRegisters.MAX_NUMBER_OF_CARDS - damage;
+    }
+
+    public int getDamage() {
+        return this.damage;
+    }
+
+    public int getLives() {
+        return this.lives;
+    }
+
+    public int getTargetFlag() {
+        return targetFlag;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Backup getBackup() {
+        return backup;
+    }
+
+    public ProgramRegisters getRegisters() {
+        return registers;
+    }
+
+    public PlayerState getPlayerState() {
+        return playerState;
+    }
+
+    public void setPlayerState(PlayerState playerState) {
+        if (this.playerState == GAME_OVER) {
+            GameLog.print(name, "can not change its state after the game is over");
+            return;
+        }
+        else if (this.playerState == DESTROYED) {
+            GameLog.print(name, "is destroyed, only respawn should change its state");
+        }
+        this.playerState = playerState;
+    }
+
+    int getMaxDamage() {
+        return MAX_DAMAGE;
+    }
+
+    public PlayerHand getHand() {
+        return hand;
+    }
+
+    public RulesBoard<?> getBoard() {
+        return board;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " | Health: " + (10 - damage) + " | Lives: " + lives;
+    }
+
+    /**
+     * Writes this robot into a slot of the arena.
+     *
+     * @param index which of the arena's robots this is
+     */
+    public void exportState(StateArena arena, int slot, int index) {
+        arena.set(slot, StateArena.X, index, getX());
+        arena.set(slot, StateArena.Y, index, getY());
+        arena.set(slot, StateArena.DIRECTION, index, getDirection().toInt());
+        arena.set(slot, StateArena.DAMAGE, index, damage);
+        arena.set(slot, StateArena.LIVES, index, lives);
+        arena.set(slot, StateArena.TARGET_FLAG, index, targetFlag);
+        arena.set(slot, StateArena.PLAYER_STATE, index, playerState.ordinal());
+        arena.set(slot, StateArena.UNLOCKED_REGISTERS, index, registers.getNumUnlockedRegisters());
+        arena.set(slot, StateArena.BACKUP_X, index, backup.getX());
+        arena.set(slot, StateArena.BACKUP_Y, index, backup.getY());
+        for (int i = 0; i < ProgramRegisters.NUMBER_OF_REGISTERS; i++) {
+            ProgramCard card = registers.getCard(i);
+            arena.set(slot, StateArena.REGISTER + i, index, card == null ? 0 : card.pack());
+        }
+    }
+
+    /**
+     * Sets this robot to the state stored in a slot of the arena. Register cards that did not change are kept.
+     *
+     * @param index which of the arena's robots this is
+     */
+    public void importState(StateArena arena, int slot, int index) {
+        int x = arena.get(slot, StateArena.X, index);
+        int y = arena.get(slot, StateArena.Y, index);
+        if (x != getX() || y != getY()) move(x, y);
+        setDirection(Direction.fromInt(arena.get(slot, StateArena.DIRECTION, index)));
+        setDamage(arena.get(slot, StateArena.DAMAGE, index));
+        setLives(arena.get(slot, StateArena.LIVES, index));
+        setTargetFlag(arena.get(slot, StateArena.TARGET_FLAG, index));
+        playerState = PLAYER_STATES[arena.get(slot, StateArena.PLAYER_STATE, index)];
+        registers.setNumUnlockedRegisters(arena.get(slot, StateArena.UNLOCKED_REGISTERS, index));
+        backup.move(arena.get(slot, StateArena.BACKUP_X, index), arena.get(slot, StateArena.BACKUP_Y, index));
+        for (int i = 0; i < ProgramRegisters.NUMBER_OF_REGISTERS; i++) {
+            int packed = arena.get(slot, StateArena.REGISTER + i, index);
+            ProgramCard card = registers.getCard(i);
+            if (card == null ? packed != 0 : card.pack() != packed) {
+                registers.setCard(i, ProgramCard.unpack(packed));
+            }
+        }
+    }
+
+    public Position getTargetFlagPos() {
+        return board.getFlags().get(targetFlag - 1).position;
+    }
+
+    /**
+     * @return a robot without a sprite standing where this one stands, for the AI to try cards with.
+     * It is not on the board, so it walks through other robots.
+     */
+    public TestPilot createTestPilot() {
+        TestPilot testPilot = new TestPilot();
+        testPilot.reset(this);
+        return testPilot;
+    }
+
+    /**
+     * Takes the other robot's board, position, direction and target flag, and is as good as new otherwise.
+     * Only for {@link TestPilot}, which is reset like this for every card the AI tries.
+     */
+    void resetTo(Robot robot) {
+        board = robot.board;
+        nFlags = robot.nFlags;
+        if (getX() != robot.getX() || getY() != robot.getY()) move(robot.getX(), robot.getY());
+        setDirection(robot.getDirection());
+        setDamage(0);
+        setLives(MAX_LIVES);
+        setTargetFlag(robot.targetFlag);
+        playerState = OPERATIONAL;
+    }
+
+    /**
+     * @return a robot without a sprite with this robot's position, damage, flags, registers and hand,
+     * for the AI to plan with on another thread. It is a {@link TestPilot}, so it walks through other robots
+     * and never looks at where they are. From the board it only reads the grid and the flags, which do not
+     * change during a game. Changing the copy does not change this robot.
+     */
+    public Robot createPlanningCopy() {
+        TestPilot copy = new TestPilot();
+        copy.reset(this);
+        StateArena arena = new StateArena(1, 1);
+        exportState(arena, 0, 0);
+        copy.importState(arena, 0, 0);
+        ArrayList<ProgramCard> cards = hand.getCardsInHand();
+        for (int i = 0; i < cards.size(); i++) {
+            copy.getHand().receiveCard(cards.get(i));
+        }
+        return copy;
+    }
+
+    public void killPlayer() {
+        setLives(0);
+        setPlayerState(GAME_OVER);
+    }
+}
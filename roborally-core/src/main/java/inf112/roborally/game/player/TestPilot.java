@@ -0,0 +1,30 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+
+/**
+ * A robot without a sprite for the AI to try cards with. It moves by the same rules as any robot,
+ * but it is not on the board, so it walks through other robots.
+ * <p>
+ * Reset it with {@link #reset(Robot)} instead of making a new one for every card.
+ */
+public class TestPilot extends Robot {
+
+    public TestPilot() {
+        super("testPilot", Direction.NORTH, null);
+    }
+
+    /**
+     * Puts the pilot where the robot stands, facing the same way and going for the same flag,
+     * on the robot's board and without damage.
+     */
+    public void reset(Robot robot) {
+        resetTo(robot);
+    }
+
+    @Override
+    protected boolean canPush(Direction direction, RulesBoard<?> board) {
+        return true;
+    }
+}
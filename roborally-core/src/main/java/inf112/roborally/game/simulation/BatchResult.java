@@ -0,0 +1,93 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.enums.DeathCause;
+
+import java.io.PrintStream;
+
+/**
+ * Totals over many simulated games. Results of games played on different threads are added together with
+ * {@link #add(BatchResult)}.
+ */
+public class BatchResult {
+    private static final DeathCause[] CAUSES = DeathCause.values();
+
+    private int games;
+    private long rounds;
+    private final int[] wins; // index 0 counts the games nobody won
+    private final long[] deaths;
+
+    /**
+     * @param players number of players in every game
+     */
+    public BatchResult(int players) {
+        wins = new int[players + 1];
+        deaths = new long[CAUSES.length];
+    }
+
+    public void add(SimulatedGame game) {
+        games++;
+        rounds += game.getRounds();
+        wins[game.getWinningStartPlate()]++;
+        for (DeathCause cause : CAUSES) {
+            deaths[cause.ordinal()] += game.getDeaths(cause);
+        }
+    }
+
+    public void add(BatchResult other) {
+        if (other.wins.length != wins.length) {
+            throw new IllegalArgumentException("Results are for a different number of players");
+        }
+        games += other.games;
+        rounds += other.rounds;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        for (int i = 0; i < deaths.length; i++) {
+            deaths[i] += other.deaths[i];
+        }
+    }
+
+    /**
+     * @param seconds how long the games took, for the number of games per second
+     */
+    public void print(PrintStream out, double seconds) {
+        out.printf("Games: %d in %.2f s (%.1f games/s)%n", games, seconds, games / Math.max(seconds, 1e-9));
+        out.printf("Average rounds: %.2f%n", games == 0 ? 0.0 : (double) rounds / games);
+        out.println("Win rate per start plate:");
+        for (int plate = 1; plate < wins.length; plate++) {
+            out.printf("  %d: %5.1f%%%n", plate, percent(wins[plate], games));
+        }
+        out.printf("  no winner: %5.1f%%%n", percent(wins[0], games));
+
+        long total = 0;
+        for (long count : deaths) total += count;
+        out.println("Deaths: " + total);
+        for (DeathCause cause : CAUSES) {
+            long count = deaths[cause.ordinal()];
+            out.printf("  %s: %d (%.1f%%)%n", cause, count, percent(count, total));
+        }
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0.0 : 100.0 * count / total;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @param startPlate counting from 1, or 0 for games nobody won
+     */
+    public int getWins(int startPlate) {
+        return wins[startPlate];
+    }
+
+    public long getDeaths(DeathCause cause) {
+        return deaths[cause.ordinal()];
+    }
+}
@@ -0,0 +1,266 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.TmxBoardReader;
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.tools.DecisionCache;
+import inf112.roborally.game.tools.GameLog;
+import inf112.roborally.game.tools.GameRandom;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many AI vs AI games without a screen and prints how they went, e.g.
+ * <pre>
+ * java -cp roborally-core/target/classes inf112.roborally.game.simulation.BatchRunner --map vault --players 4 --games 1000
+ * </pre>
+ * The games are spread over all cores with a fork/join pool. Every game gets its own board and its own
+ * random stream, split from the seed in game order, so the same seed gives the same totals on any number of threads.
+ * The games share one {@link DecisionCache}, as they are all played on the same board with the same flags.
+ */
+public class BatchRunner {
+    public static final int DEFAULT_PLAYERS = 4;
+    public static final int DEFAULT_GAMES = 1000;
+    public static final int DEFAULT_MAX_ROUNDS = 200;
+    /**
+     * Where flags are put when none are given, as fractions of the board's width and height.
+     * On the vault this gives the same flags as a quick play game.
+     */
+    private static final double[][] DEFAULT_FLAG_SPOTS = {{0.4, 0.5}, {0.6, 0.75}, {0.75, 0.1}};
+    private static final String USAGE = "Usage: BatchRunner --map <name or .tmx path> [--players n] [--games n]"
+            + " [--threads n] [--seed n] [--max-rounds n] [--flags x,y;x,y;...] [--ai greedy|exhaustive] [--cache n]"
+            + " [--verbose]";
+
+    private final BoardGrid grid;
+    private final int[][] flags;
+    private final int players;
+    private final int maxRounds;
+    private final AiMode aiMode;
+    private final DecisionCache cache;
+
+    /**
+     * @param grid      the board every game is played on
+     * @param flags     the flags as {x, y} pairs, in the order they must be visited
+     * @param players   number of robots in every game
+     * @param maxRounds games that last longer than this end without a winner
+     */
+    public BatchRunner(BoardGrid grid, int[][] flags, int players, int maxRounds) {
+        this(grid, flags, players, maxRounds, AiMode.GREEDY);
+    }
+
+    /**
+     * @param aiMode how the robots pick their cards
+     */
+    public BatchRunner(BoardGrid grid, int[][] flags, int players, int maxRounds, AiMode aiMode) {
+        this(grid, flags, players, maxRounds, aiMode, DecisionCache.create());
+    }
+
+    /**
+     * @param cache programs the AI has found, shared by all games
+     */
+    public BatchRunner(BoardGrid grid, int[][] flags, int players, int maxRounds, AiMode aiMode,
+                       DecisionCache cache) {
+        this.cache = cache;
+        this.grid = grid;
+        this.flags = flags;
+        this.players = players;
+        this.maxRounds = maxRounds;
+        this.aiMode = aiMode;
+    }
+
+    /**
+     * @param games   number of games to play
+     * @param seed    the seed every game's random stream is split from
+     * @param threads number of worker threads
+     */
+    public BatchResult run(int games, long seed, int threads) {
+        GameRandom root = new GameRandom(seed);
+        GameRandom[] randoms = new GameRandom[games];
+        for (int i = 0; i < games; i++) {
+            randoms[i] = root.split();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.invoke(new Games(randoms, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Splits the games in halves until there is one left, which is played on a board of its own.
+     */
+    private class Games extends RecursiveTask<BatchResult> {
+        private final GameRandom[] randoms;
+        private final int from;
+        private final int to;
+
+        Games(GameRandom[] randoms, int from, int to) {
+            this.randoms = randoms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            BatchResult result = new BatchResult(players);
+            if (to - from == 1) {
+                SimulatedGame game = new SimulatedGame(grid, flags, players, randoms[from], aiMode, cache);
+                game.play(maxRounds);
+                result.add(game);
+            } else if (to > from) {
+                int middle = (from + to) >>> 1;
+                Games right = new Games(randoms, middle, to);
+                right.fork();
+                result.add(new Games(randoms, from, middle).compute());
+                result.add(right.join());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @return one flag for every spot in {@link #DEFAULT_FLAG_SPOTS}, each on the nearest floor tile
+     * that is not a start plate or a belt, like the ones a player can pick when placing flags.
+     */
+    public static int[][] defaultFlags(BoardGrid grid) {
+        int[][] flags = new int[DEFAULT_FLAG_SPOTS.length][];
+        for (int i = 0; i < flags.length; i++) {
+            double spotX = DEFAULT_FLAG_SPOTS[i][0] * grid.getWidth();
+            double spotY = DEFAULT_FLAG_SPOTS[i][1] * grid.getHeight();
+            double best = Double.MAX_VALUE;
+            for (int x = 0; x < grid.getWidth(); x++) {
+                for (int y = 0; y < grid.getHeight(); y++) {
+                    double distance = (x - spotX) * (x - spotX) + (y - spotY) * (y - spotY);
+                    if (distance < best && canHoldFlag(grid, x, y, flags)) {
+                        best = distance;
+                        flags[i] = new int[]{x, y};
+                    }
+                }
+            }
+            if (flags[i] == null) throw new IllegalArgumentException("There is no room for flags on the board");
+        }
+        return flags;
+    }
+
+    private static boolean canHoldFlag(BoardGrid grid, int x, int y, int[][] flags) {
+        if (!grid.isFloor(x, y) || grid.isOnBelt(x, y) || grid.getStartNumber(x, y) > 0) return false;
+        for (int[] flag : flags) {
+            if (flag != null && flag[0] == x && flag[1] == y) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param map a map name like "vault", or a path to a .tmx file
+     * @return the path of the map, looked for in assets/maps from both the project root and a module folder
+     */
+    public static String findMap(String map) {
+        if (map.endsWith(".tmx")) return map;
+        String path = "assets/maps/" + map + ".tmx";
+        if (!new File(path).exists() && new File("../" + path).exists()) return "../" + path;
+        return path;
+    }
+
+    /**
+     * @param flags flags written as "x,y;x,y;..."
+     */
+    static int[][] parseFlags(String flags) {
+        String[] pairs = flags.split(";");
+        int[][] parsed = new int[pairs.length][];
+        for (int i = 0; i < pairs.length; i++) {
+            String[] xy = pairs[i].split(",");
+            if (xy.length != 2) throw new IllegalArgumentException("Flags must be written as x,y: " + pairs[i]);
+            parsed[i] = new int[]{Integer.parseInt(xy[0].trim()), Integer.parseInt(xy[1].trim())};
+        }
+        return parsed;
+    }
+
+    public static void main(String[] args) {
+        String map = null;
+        String flagOption = null;
+        int players = DEFAULT_PLAYERS;
+        int games = DEFAULT_GAMES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxRounds = DEFAULT_MAX_ROUNDS;
+        long seed = GameRandom.create().nextLong();
+        AiMode aiMode = AiMode.create();
+        DecisionCache cache = DecisionCache.create();
+        boolean verbose = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--verbose")) {
+                    verbose = true;
+                    continue;
+                }
+                if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--map":
+                        map = value;
+                        break;
+                    case "--players":
+                        players = Integer.parseInt(value);
+                        break;
+                    case "--games":
+                        games = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--max-rounds":
+                        maxRounds = Integer.parseInt(value);
+                        break;
+                    case "--flags":
+                        flagOption = value;
+                        break;
+                    case "--ai":
+                        aiMode = AiMode.valueOf(value.toUpperCase());
+                        break;
+                    case "--cache":
+                        cache = new DecisionCache(Integer.parseInt(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (map == null) throw new IllegalArgumentException("No map given");
+            if (players < 1 || games < 1 || threads < 1 || maxRounds < 1) {
+                throw new IllegalArgumentException("Numbers must be positive");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        BoardGrid grid = TmxBoardReader.read(findMap(map));
+        int[][] flags = flagOption == null ? defaultFlags(grid) : parseFlags(flagOption);
+        PrintStream out = System.out;
+        out.printf("Map: %s, players: %d, games: %d, threads: %d, seed: %d, AI: %s%n",
+                map, players, games, threads, seed, aiMode.name().toLowerCase());
+        StringBuilder flagList = new StringBuilder("Flags:");
+        for (int[] flag : flags) flagList.append(" (").append(flag[0]).append(",").append(flag[1]).append(")");
+        out.println(flagList);
+
+        GameLog.setEnabled(verbose); // the robots log everything that happens to them, which would drown the report
+        long start = System.nanoTime();
+        BatchResult result = new BatchRunner(grid, flags, players, maxRounds, aiMode, cache).run(games, seed, threads);
+        result.print(out, (System.nanoTime() - start) / 1e9);
+        if (aiMode == AiMode.EXHAUSTIVE) {
+            long searches = cache.getHits() + cache.getMisses();
+            out.printf("Program cache: %d hits, %d misses (%.1f%%), %d of %d programs kept%n", cache.getHits(),
+                    cache.getMisses(), searches == 0 ? 0.0 : 100.0 * cache.getHits() / searches,
+                    cache.size(), cache.getCapacity());
+        }
+    }
+}
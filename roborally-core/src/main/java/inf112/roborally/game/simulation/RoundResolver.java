@@ -0,0 +1,219 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.board.BoardListener;
+import inf112.roborally.game.board.ExecutionSchedule;
+import inf112.roborally.game.board.RoundRecord;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+import inf112.roborally.game.player.Robot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays the rounds of a multiplayer game on the server, so the players only send their programs and show what
+ * the server recorded. Rounds are played the same way as in BoardLogic, and the clean up that the players used to
+ * do before each round is done at the end of the round it follows.
+ * <p>
+ * Players only program their robots with the cards they were {@link #deal(int, List) dealt}. The cards come back
+ * from {@link #takeReturnedCards(int)} after the round, except those that stay locked in a register.
+ * <p>
+ * Robots are numbered by their index in the list the resolver was made with, which is the id of their player.
+ * Not thread safe.
+ */
+@SuppressWarnings("Duplicates")
+public class RoundResolver implements BoardListener {
+    private final RulesBoard<Robot> board;
+    private final List<Robot> robots;
+    private final ExecutionSchedule<Robot> schedule;
+    private final List<List<ProgramCard>> returned; // cards to give back to the deck, by player id
+    private RoundRecord record;
+
+    /**
+     * Listens to the board, so events end up in the records.
+     *
+     * @param robots the robots on the board, by player id
+     */
+    public RoundResolver(RulesBoard<Robot> board, List<Robot> robots) {
+        this.board = board;
+        this.robots = new ArrayList<>(robots);
+        returned = new ArrayList<>();
+        for (int i = 0; i < robots.size(); i++) {
+            returned.add(new ArrayList<ProgramCard>());
+        }
+        schedule = new ExecutionSchedule<>();
+        board.setListener(this);
+    }
+
+    /**
+     * Gives the player the cards it was dealt for the next round. Only these cards can go into its registers.
+     */
+    public void deal(int player, List<ProgramCard> cards) {
+        Robot robot = robots.get(player);
+        for (int i = 0; i < cards.size(); i++) {
+            robot.getHand().receiveCard(cards.get(i));
+        }
+    }
+
+    /**
+     * Puts the cards the player chose into the unlocked registers. The program must have a card from the player's
+     * hand for every unlocked register, and after them the cards the locked registers already have. Any other
+     * program is turned down, and the unlocked registers get the first cards of the hand instead, so the round
+     * can still be played.
+     *
+     * @param cards all five registers, as the player sees them
+     * @return false if the program was turned down
+     */
+    public boolean setProgram(int player, List<ProgramCard> cards) {
+        Robot robot = robots.get(player);
+        ProgramRegisters registers = robot.getRegisters();
+        ArrayList<ProgramCard> hand = robot.getHand().getCardsInHand();
+        boolean valid = isProgramFor(robot, cards);
+        for (int i = 0; i < registers.getNumUnlockedRegisters() && !hand.isEmpty(); i++) {
+            if (registers.getCard(i) != null) continue;
+            registers.placeCard(valid ? hand.indexOf(cards.get(i)) : 0);
+        }
+        return valid;
+    }
+
+    private boolean isProgramFor(Robot robot, List<ProgramCard> cards) {
+        ProgramRegisters registers = robot.getRegisters();
+        if (cards.size() > ProgramRegisters.NUMBER_OF_REGISTERS) return false;
+        List<ProgramCard> unused = new ArrayList<>(robot.getHand().getCardsInHand());
+        for (int i = 0; i < cards.size(); i++) {
+            if (registers.isLocked(i)) {
+                if (cards.get(i) != registers.getCard(i)) return false;
+            } else if (registers.getCard(i) != null || !unused.remove(cards.get(i))) {
+                return false;
+            }
+        }
+        return cards.size() >= registers.getNumUnlockedRegisters();
+    }
+
+    public void powerDown(int player) {
+        Robot robot = robots.get(player);
+        robot.wantsToPowerDown = true;
+        robot.powerDown();
+    }
+
+    /**
+     * Takes the robot of a player that left off the board.
+     */
+    public void removePlayer(int player) {
+        board.removePlayer(robots.get(player));
+    }
+
+    /**
+     * Plays the five phases with the programs that are in the registers, then cleans up for the next round.
+     * The round stops at the step where a robot wins.
+     */
+    public RoundRecord playRound() {
+        record = new RoundRecord(robots.size(), RoundRecord.maxSteps(robots.size()));
+        List<Robot> players = board.getPlayers();
+        schedule.schedule(players);
+        for (int phase = 0; phase < 5; phase++) {
+            for (int turn = 0; turn < schedule.size(); turn++) {
+                Robot robot = schedule.get(phase, turn);
+                robot.getRegisters().executeCard(phase);
+                recordStep(phase, idOf(robot));
+                if (someoneHasWon()) return record;
+            }
+            board.boardMoves();
+            recordStep(phase, RoundRecord.BOARD_MOVES);
+            if (someoneHasWon()) return record;
+        }
+        cleanUp();
+        recordStep(5, RoundRecord.CLEAN_UP);
+        return record;
+    }
+
+    private void cleanUp() {
+        board.cleanUp();
+        for (int i = 0; i < robots.size(); i++) {
+            Robot robot = robots.get(i);
+            robot.respawn();
+            if (robot.isGameOver() && board.getPlayers().contains(robot)) board.removePlayer(robot);
+        }
+        List<Robot> players = board.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).powerUp();
+        }
+        // Repairs have unlocked registers, so only the cards that stay locked are kept
+        for (int i = 0; i < robots.size(); i++) {
+            ArrayList<ProgramCard> cards = robots.get(i).returnCards();
+            returned.get(i).addAll(cards);
+            cards.clear();
+        }
+    }
+
+    /**
+     * @return the cards the player was dealt and that are not locked in its registers, once a round is over.
+     * The list is emptied, so every card is only given back once.
+     */
+    public List<ProgramCard> takeReturnedCards(int player) {
+        List<ProgramCard> cards = new ArrayList<>(returned.get(player));
+        returned.get(player).clear();
+        return cards;
+    }
+
+    private void recordStep(int phase, int actor) {
+        int slot = record.addStep(phase, actor);
+        for (int i = 0; i < robots.size(); i++) {
+            robots.get(i).exportState(record.getStates(), slot, i);
+        }
+    }
+
+    private boolean someoneHasWon() {
+        List<Robot> players = board.getPlayers();
+        if (robots.size() > 1 && players.size() == 1) return true;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).hasWon()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Robots are equal when their names are, so they are looked up by identity.
+     */
+    private int idOf(Robot robot) {
+        for (int i = 0; i < robots.size(); i++) {
+            if (robots.get(i) == robot) return i;
+        }
+        return -1;
+    }
+
+    private void addEvent(int type, Robot robot, Robot other) {
+        int id = idOf(robot);
+        if (id == -1 || record == null) return;
+        record.addEvent(record.getSteps(), type, id, other == null ? -1 : idOf(other));
+    }
+
+    @Override
+    public void robotFellOff(Robot robot) {
+        addEvent(RoundRecord.FELL_OFF, robot, null);
+    }
+
+    @Override
+    public void robotHitByLaser(Robot robot) {
+        addEvent(RoundRecord.HIT_BY_LASER, robot, null);
+    }
+
+    @Override
+    public void robotShot(Robot shooter, Robot target) {
+        addEvent(RoundRecord.SHOT, shooter, target);
+    }
+
+    @Override
+    public void robotRepaired(Robot robot) {
+        addEvent(RoundRecord.REPAIRED, robot, null);
+    }
+
+    public RulesBoard<Robot> getBoard() {
+        return board;
+    }
+
+    public List<Robot> getRobots() {
+        return robots;
+    }
+}
@@ -0,0 +1,259 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.BoardListener;
+import inf112.roborally.game.board.ExecutionSchedule;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.enums.DeathCause;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramCardDeck;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.AiRobo;
+import inf112.roborally.game.tools.DecisionCache;
+import inf112.roborally.game.tools.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One complete AI vs AI game without a screen. Rounds are played the same way as in BoardLogic,
+ * only without waiting between the cards.
+ */
+@SuppressWarnings("Duplicates")
+public class SimulatedGame {
+    private final RulesBoard<Robot> board;
+    private final List<Robot> robots;
+    private final ProgramCardDeck deck;
+    private final GameRandom random;
+    private final AiMode aiMode;
+    private final DecisionCache cache;
+    private final ExecutionSchedule<Robot> schedule;
+    private final DeathCause[] causes; // why each robot was destroyed, null while it is alive
+    private final int[] deaths;
+    private Robot winner;
+    private int rounds;
+
+    /**
+     * @param grid    the board to play on, it is not changed so games can share it
+     * @param flags   the flags as {x, y} pairs, in the order they must be visited
+     * @param players number of robots, one on each of the first start plates
+     * @param random  the stream everything random in this game is drawn from
+     * @throws IllegalArgumentException if the board has fewer start plates than players
+     */
+    public SimulatedGame(BoardGrid grid, int[][] flags, int players, GameRandom random) {
+        this(grid, flags, players, random, AiMode.GREEDY);
+    }
+
+    /**
+     * @param aiMode how the robots pick their cards
+     */
+    public SimulatedGame(BoardGrid grid, int[][] flags, int players, GameRandom random, AiMode aiMode) {
+        this(grid, flags, players, random, aiMode, null);
+    }
+
+    /**
+     * @param cache programs the AI has found before on the same board and flags, may be null
+     */
+    public SimulatedGame(BoardGrid grid, int[][] flags, int players, GameRandom random, AiMode aiMode,
+                         DecisionCache cache) {
+        this.random = random;
+        this.aiMode = aiMode;
+        this.cache = cache;
+        board = new RulesBoard<>();
+        board.setGrid(grid);
+        for (int i = 0; i < flags.length; i++) {
+            board.getFlags().add(new Flag(flags[i][0], flags[i][1], i + 1));
+        }
+        board.updateFlagDistances();
+        board.findLaserGuns();
+
+        robots = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            Robot robot = new Robot("Robot" + (i + 1), Direction.EAST, board);
+            robots.add(robot);
+            board.addPlayer(robot);
+        }
+        if (countStartPlates(grid) < players) {
+            throw new IllegalArgumentException("The board has " + countStartPlates(grid) + " start plates, "
+                    + players + " players do not fit");
+        }
+        board.placePlayers();
+        board.setListener(new DeathListener());
+
+        deck = new ProgramCardDeck(random);
+        schedule = new ExecutionSchedule<>();
+        causes = new DeathCause[players];
+        deaths = new int[DeathCause.values().length];
+    }
+
+    private static int countStartPlates(BoardGrid grid) {
+        int count = 0;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (grid.getStartNumber(x, y) > 0) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays until someone has won, everyone is dead or the round limit is reached.
+     *
+     * @param maxRounds stop after this many rounds, so robots stuck in a loop do not play forever
+     */
+    public void play(int maxRounds) {
+        while (winner == null && !board.getPlayers().isEmpty() && rounds < maxRounds) {
+            rounds++;
+            playRound();
+        }
+    }
+
+    private void playRound() {
+        doBeforeRound();
+        if (checkIfARobotHasWon()) return;
+
+        List<Robot> players = board.getPlayers();
+        AiRobo.makeDecisionsForRobos(players, random, aiMode, cache);
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getPlayerState() == PlayerState.READY) {
+                players.get(i).setPlayerState(PlayerState.OPERATIONAL);
+            }
+        }
+
+        schedule.schedule(players);
+        for (int phase = 0; phase < 5; phase++) {
+            for (int turn = 0; turn < schedule.size(); turn++) {
+                schedule.get(phase, turn).getRegisters().executeCard(phase);
+                recordFalls();
+                if (checkIfARobotHasWon()) return;
+            }
+            board.boardMoves();
+            recordFalls();
+            if (checkIfARobotHasWon()) return;
+        }
+    }
+
+    private void doBeforeRound() {
+        board.cleanUp();
+        for (int i = 0; i < robots.size(); i++) {
+            Robot robot = robots.get(i);
+            if (robot.isDestroyed() && robot.respawn()) causes[i] = null;
+            if (robot.isGameOver() && board.getPlayers().contains(robot)) board.removePlayer(robot);
+        }
+
+        List<Robot> players = board.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).powerUp();
+            players.get(i).powerDown();
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Robot robot = players.get(i);
+            if (robot.isPoweredDown()) {
+                ArrayList<ProgramCard> cards = robot.returnCards();
+                for (int j = 0; j < cards.size(); j++) {
+                    deck.returnCard(cards.get(j));
+                }
+                cards.clear();
+            }
+            if (!robot.outOfLives() && robot.isOperational()) {
+                for (int j = 0; j < robot.getCardLimit(); j++) {
+                    robot.getHand().receiveCard(deck.deal());
+                }
+            }
+        }
+    }
+
+    private boolean checkIfARobotHasWon() {
+        List<Robot> players = board.getPlayers();
+        if (robots.size() > 1 && players.size() == 1) {
+            winner = players.get(0);
+            return true;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).hasWon()) {
+                winner = players.get(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Robots that walk off the board are destroyed right away, robots that are pushed off when the belts move.
+     */
+    private void recordFalls() {
+        for (int i = 0; i < robots.size(); i++) {
+            Robot robot = robots.get(i);
+            if (robot.isDestroyed() && causes[i] == null) recordDeath(i, fallCause(robot));
+        }
+    }
+
+    private void recordDeath(int robot, DeathCause cause) {
+        causes[robot] = cause;
+        deaths[cause.ordinal()]++;
+    }
+
+    private DeathCause fallCause(Robot robot) {
+        return board.getGrid().inBounds(robot.getX(), robot.getY()) ? DeathCause.HOLE : DeathCause.EDGE;
+    }
+
+    /**
+     * Lasers keep hitting robots that are already destroyed, so only the first hit that destroys a robot counts.
+     */
+    private class DeathListener implements BoardListener {
+
+        private void hit(Robot robot, DeathCause cause) {
+            int i = robots.indexOf(robot);
+            if (i == -1 || !robot.isDestroyed() || causes[i] != null) return;
+            recordDeath(i, robot.isOffTheBoard(board.getGrid()) ? fallCause(robot) : cause);
+        }
+
+        @Override
+        public void robotFellOff(Robot robot) {
+        }
+
+        @Override
+        public void robotHitByLaser(Robot robot) {
+            hit(robot, DeathCause.BOARD_LASER);
+        }
+
+        @Override
+        public void robotShot(Robot shooter, Robot target) {
+            hit(target, DeathCause.ROBOT_LASER);
+        }
+
+        @Override
+        public void robotRepaired(Robot robot) {
+        }
+    }
+
+    /**
+     * @return the start plate of the winner, counting from 1, or 0 if nobody won.
+     */
+    public int getWinningStartPlate() {
+        return winner == null ? 0 : robots.indexOf(winner) + 1;
+    }
+
+    public Robot getWinner() {
+        return winner;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return how many lives were lost to the cause.
+     */
+    public int getDeaths(DeathCause cause) {
+        return deaths[cause.ordinal()];
+    }
+
+    public RulesBoard<Robot> getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,178 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.player.TestPilot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Picks cards and power downs for robots. Only uses the rules, so it plays the same in the game and headless.
+ */
+public class AiRobo {
+    /**
+     * Every thread that plans gets its own two pilots, which are reset for every card instead of made anew.
+     */
+    private static final ThreadLocal<TestPilot[]> PILOTS = new ThreadLocal<TestPilot[]>() {
+        @Override
+        protected TestPilot[] initialValue() {
+            return new TestPilot[]{new TestPilot(), new TestPilot()};
+        }
+    };
+    private static final Planner GREEDY = new Planner() {
+        @Override
+        public void placeProgram(Robot robot, long deadline) {
+            moveTestPilot(robot);
+        }
+    };
+
+    /**
+     * @param random the stream the AI draws from, so the same game always gets the same decisions
+     */
+    public static void makeDecisionsForRobos(List<? extends Robot> aiRobos, GameRandom random) {
+        makeDecisionsForRobos(aiRobos, random, AiMode.GREEDY);
+    }
+
+    /**
+     * @param mode how the cards are picked
+     */
+    public static void makeDecisionsForRobos(List<? extends Robot> aiRobos, GameRandom random, AiMode mode) {
+        makeDecisionsForRobos(aiRobos, random, mode, null);
+    }
+
+    /**
+     * @param cache programs found before on the same board, may be null
+     */
+    public static void makeDecisionsForRobos(List<? extends Robot> aiRobos, GameRandom random, AiMode mode,
+                                             DecisionCache cache) {
+        if (aiRobos.isEmpty()) return;
+        makeDecisionsForRobos(aiRobos, random, createPlanner(aiRobos.get(0).getBoard(), mode, cache), 0);
+    }
+
+    /**
+     * Shares the budget between the robots. A robot that is done early leaves its time to the ones after it.
+     *
+     * @param budgetMillis milliseconds all the robots together may plan for, 0 for no limit
+     */
+    public static void makeDecisionsForRobos(List<? extends Robot> aiRobos, GameRandom random, Planner planner,
+                                             long budgetMillis) {
+        long start = System.nanoTime();
+        for (int i = 0; i < aiRobos.size(); i++) {
+            long deadline = budgetMillis <= 0 ? Planner.NO_DEADLINE
+                    : start + budgetMillis * 1000000L * (i + 1) / aiRobos.size();
+            makeDecisions(aiRobos.get(i), random, planner, deadline);
+        }
+    }
+
+    /**
+     * @param cache programs found before on the same board, may be null
+     */
+    public static Planner createPlanner(RulesBoard<?> board, AiMode mode, DecisionCache cache) {
+        return mode == AiMode.EXHAUSTIVE ? new ProgramSearch(board, cache) : GREEDY;
+    }
+
+    /**
+     * Starts planning for the robot on the pool. The robot is copied first, so the game can go on while the
+     * planner works on the copy. Hand the result to {@link #applyDecision(Robot, Robot, GameRandom)}.
+     * The other robots may move while planning, but the flags on the board must stay where they are.
+     * Give it a {@link java.util.concurrent.ForkJoinPool} to let an exhaustive search use the same threads.
+     *
+     * @param deadline when the planner should stop looking, as a {@link System#nanoTime()}, or
+     *                 {@link Planner#NO_DEADLINE}
+     * @return the copy with its program in its registers, once the planner is done.
+     */
+    public static Future<Robot> submitDecision(ExecutorService pool, Robot robo, final Planner planner,
+                                               final long deadline) {
+        final Robot copy = robo.createPlanningCopy();
+        return pool.submit(new Callable<Robot>() {
+            @Override
+            public Robot call() {
+                planner.placeProgram(copy, deadline);
+                return copy;
+            }
+        });
+    }
+
+    /**
+     * Gives the robot the program that was planned on its copy, fills the registers that are left
+     * and decides whether to power down. Call it on the thread that runs the game, in the same order
+     * every time, as it draws from the random stream.
+     */
+    public static void applyDecision(Robot robo, Robot planned, GameRandom random) {
+        if (robo.outOfLives()) return;
+        ArrayList<ProgramCard> hand = robo.getHand().getCardsInHand();
+        for (int i = 0; i < robo.getRegisters().getNumUnlockedRegisters(); i++) {
+            ProgramCard card = planned.getRegisters().getCard(i);
+            if (card != null && robo.getRegisters().getCard(i) == null && hand.contains(card)) {
+                robo.getRegisters().placeCard(hand.indexOf(card));
+            }
+        }
+        finishDecisions(robo, random);
+    }
+
+    private static void makeDecisions(Robot robo, GameRandom random, Planner planner, long deadline) {
+        if (robo.outOfLives()) return;
+        planner.placeProgram(robo, deadline);
+        finishDecisions(robo, random);
+    }
+
+    private static void finishDecisions(Robot robo, GameRandom random) {
+        while (!robo.getRegisters().isFull() && robo.getHand().size() > 0)
+            robo.getRegisters().placeCard(0);
+        robo.wantsToPowerDown = wantsToPowerDown(robo, random);
+        robo.setPlayerState(PlayerState.READY);
+    }
+
+    private static void moveTestPilot(Robot robo) {
+        if (robo.getRegisters().isFull()) return;
+
+        TestPilot[] pilots = PILOTS.get();
+        TestPilot testPilot = pilots[0];
+        TestPilot successfulTestPilot = pilots[1];
+        testPilot.reset(robo);
+        successfulTestPilot.reset(robo);
+
+        for (int i = 0; i < robo.getHand().size(); i++) {
+            ProgramCard card = robo.getHand().getCard(i);
+            testPilot.rotate(card.getRotate());
+            testPilot.move(card.getMoveDistance());
+            if (!testPilot.isDestroyed()
+                    && shorterDistToFlag(successfulTestPilot, testPilot)) {
+                robo.getRegisters().placeCard(i);
+                successfulTestPilot.reset(testPilot);
+            } else {
+                testPilot.reset(successfulTestPilot);
+            }
+        }
+    }
+
+    private static boolean shorterDistToFlag(Robot robo, Robot testPilot) {
+        return (Math.abs(robo.getTargetFlagPos().getX() - testPilot.getX())
+                + Math.abs(robo.getTargetFlagPos().getY() - testPilot.getY())
+                < Math.abs(robo.getTargetFlagPos().getX() - robo.getX())
+                + Math.abs(robo.getTargetFlagPos().getY() - robo.getY()));
+    }
+
+    private static boolean wantsToPowerDown(Robot robo, GameRandom random) {
+        int randomNumber = random.nextInt(50) + 1;
+        int aiRoboDamage = robo.getDamage();
+        return (aiRoboDamage == 0 && randomNumber > 45) ||
+                (aiRoboDamage == 1 && randomNumber > 40) ||
+                (aiRoboDamage == 2 && randomNumber > 35) ||
+                (aiRoboDamage == 3 && randomNumber > 30) ||
+                (aiRoboDamage == 4 && randomNumber > 25) ||
+                (aiRoboDamage == 5 && randomNumber > 20) ||
+                (aiRoboDamage == 6 && randomNumber > 15) ||
+                (aiRoboDamage == 7 && randomNumber > 10) ||
+                (aiRoboDamage == 8 && randomNumber > 5) ||
+                (aiRoboDamage == 9 && randomNumber > 0);
+    }
+
+}
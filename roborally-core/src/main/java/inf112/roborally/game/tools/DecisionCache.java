@@ -0,0 +1,120 @@
+package inf112.roborally.game.tools;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the programs {@link ProgramSearch} has found, so a robot that stands where another robot stood
+ * with the same cards does not have to search again. The least recently used program is forgotten first.
+ * <p>
+ * A program only depends on the board, so a cache must only be shared by searches on the same board
+ * with the same flags. It is safe to share between threads.
+ */
+public class DecisionCache {
+    public static final int DEFAULT_CAPACITY = 10000;
+    /**
+     * Set this system property to change how many programs the game remembers, e.g. -Droborally.ai.cache=50000
+     */
+    public static final String CAPACITY_PROPERTY = "roborally.ai.cache";
+
+    private final LinkedHashMap<Key, int[]> programs;
+    private final int capacity;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param capacity the most programs to remember
+     */
+    public DecisionCache(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        programs = new LinkedHashMap<Key, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return a cache with the capacity in {@link #CAPACITY_PROPERTY}, {@link #DEFAULT_CAPACITY} if it is not set.
+     */
+    public static DecisionCache create() {
+        String capacity = System.getProperty(CAPACITY_PROPERTY);
+        return new DecisionCache(capacity == null ? DEFAULT_CAPACITY : Integer.parseInt(capacity.trim()));
+    }
+
+    /**
+     * @return the program for the key, null if it is not remembered.
+     */
+    public synchronized int[] get(Key key) {
+        int[] program = programs.get(key);
+        if (program == null) misses++;
+        else hits++;
+        return program;
+    }
+
+    public synchronized void put(Key key, int[] program) {
+        programs.put(key, program);
+    }
+
+    public synchronized int size() {
+        return programs.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Where a robot stands and what it holds. The hand is kept as the number of cards of each
+     * {@link inf112.roborally.game.board.MoveTable} kind, so the order the cards were dealt in does not matter.
+     */
+    public static class Key {
+        private final long pose;
+        private final long hand;
+
+        /**
+         * @param state      the robot's state in the move table
+         * @param damage     the robot's damage
+         * @param targetFlag index of the flag the robot is going for
+         * @param locked     kinds of the cards in the locked registers
+         * @param handCounts how many cards of each kind the robot holds
+         */
+        public Key(int state, int damage, int targetFlag, int[] locked, int[] handCounts) {
+            long pose = state;
+            pose = pose << 4 | damage;
+            pose = pose << 4 | targetFlag;
+            pose = pose << 3 | locked.length;
+            for (int i = 0; i < locked.length; i++) {
+                pose = pose << 3 | locked[i];
+            }
+            long hand = 0;
+            for (int i = 0; i < handCounts.length; i++) {
+                hand = hand << 4 | handCounts[i];
+            }
+            this.pose = pose;
+            this.hand = hand;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+            return pose == ((Key) other).pose && hand == ((Key) other).hand;
+        }
+
+        @Override
+        public int hashCode() {
+            long mixed = pose * 0x9E3779B97F4A7C15L ^ hand;
+            return (int) (mixed ^ mixed >>> 32);
+        }
+    }
+}
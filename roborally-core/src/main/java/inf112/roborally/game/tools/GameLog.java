@@ -0,0 +1,36 @@
+package inf112.roborally.game.tools;
+
+/**
+ * Prints what happens to the robots, like picking up flags and powering down, to standard out.
+ * <p>
+ * Batch runs play thousands of games on many threads at once, so they turn the log off. Then nothing is printed
+ * and no message is put together.
+ */
+public final class GameLog {
+    private static volatile boolean enabled = true;
+
+    private GameLog() {
+    }
+
+    /**
+     * Prints the name of the robot followed by the message.
+     */
+    public static void print(String robot, String message) {
+        if (enabled) System.out.println(robot + " " + message);
+    }
+
+    /**
+     * Prints a message about the whole game.
+     */
+    public static void print(String message) {
+        if (enabled) System.out.println(message);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        GameLog.enabled = enabled;
+    }
+}
@@ -0,0 +1,122 @@
+package inf112.roborally.game.tools;
+
+import java.util.List;
+
+/**
+ * A seeded random number generator for everything random in a game: shuffling the deck and the choices of the AI.
+ * <p>
+ * Every game gets its own generator, and every part of the game that runs on its own thread takes its own stream
+ * with {@link #split()}. Nothing is shared with {@link Math#random()}, so games can run side by side, and the same
+ * seed always plays out the same way.
+ * <p>
+ * This is the SplitMix64 generator that Java 8 ships as SplittableRandom, which Java 7 does not have.
+ * Only {@link #split()} is thread safe, so a generator that is split from several threads should not draw numbers
+ * itself. Any other stream should only be used by one thread.
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    /**
+     * Set this system property to play a game with a fixed seed, e.g. -Droborally.seed=42
+     */
+    public static final String SEED_PROPERTY = "roborally.seed";
+
+    private long seed;
+    private final long gamma;
+
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * @return a generator seeded with {@link #createSeed()}.
+     */
+    public static GameRandom create() {
+        return new GameRandom(createSeed());
+    }
+
+    /**
+     * @return the seed in {@link #SEED_PROPERTY} if it is set, otherwise a seed from the clock.
+     */
+    public static long createSeed() {
+        String seed = System.getProperty(SEED_PROPERTY);
+        if (seed != null) return Long.parseLong(seed.trim());
+
+        return mix64(System.nanoTime() ^ System.currentTimeMillis());
+    }
+
+    /**
+     * @return a new generator with its own stream. Splitting the same generator in the same order always
+     * gives the same streams.
+     */
+    public synchronized GameRandom split() {
+        return new GameRandom(mix64(nextSeed()), mixGamma(nextSeed()));
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * @param bound the upper bound, must be positive
+     * @return a number from 0 up to, but not including, {@code bound}. Every number is equally likely.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) return r & m;
+
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            // Throw away numbers from the incomplete range at the top, they would favour low results
+        }
+        return r;
+    }
+
+    /**
+     * Shuffles the list in place with Fisher-Yates, like {@link java.util.Collections#shuffle(List)}.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            T swap = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, swap);
+        }
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    /**
+     * Gammas need to be odd and have enough bit flips between neighbours to give good streams.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int flips = Long.bitCount(z ^ (z >>> 1));
+        return (flips < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,23 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.player.Robot;
+
+/**
+ * Picks the cards for a robot's program.
+ * <p>
+ * A planner that can keep looking for better programs is an anytime planner: when the deadline comes it
+ * stops and uses the best program it has found so far, so more time only makes the program better.
+ */
+public interface Planner {
+    /**
+     * Deadline for a planner that may take as long as it needs.
+     */
+    long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * Puts cards into the robot's unlocked registers. Registers it leaves empty are filled by the caller.
+     *
+     * @param deadline when to stop looking, as a {@link System#nanoTime()}, or {@link #NO_DEADLINE}
+     */
+    void placeProgram(Robot robot, long deadline);
+}
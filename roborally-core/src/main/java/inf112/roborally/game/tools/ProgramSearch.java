@@ -0,0 +1,358 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.DistanceField;
+import inf112.roborally.game.board.MoveTable;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.BoardLaser;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramRegisters;
+import inf112.roborally.game.player.Robot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds the best program for a robot by trying every order of the cards in its hand.
+ * <p>
+ * Nine cards in five registers make 15,120 programs. Programs are played out depth first, so programs that
+ * start the same share the work for their first cards, and every first card is searched on its own core.
+ * The searches run on the fork join pool the caller runs on, or on a pool of their own if it runs on none.
+ * Cards that move the same way are the same to the search, so each program of card kinds is only tried once.
+ * <p>
+ * Each program is played with the board's {@link MoveTable}, so only walls, holes, belts, gyros,
+ * board lasers and flags count. Other robots are left out, they move in ways the robot can not know anyway.
+ * Programs are scored by the number of cards still needed to reach the next flag, read from the board's
+ * {@link DistanceField}. Locked registers keep their cards and are played after the chosen ones.
+ * <p>
+ * Give the search a {@link DecisionCache} to remember the programs it has found.
+ * With a deadline it stops when the time is up and uses the best program it has played out so far.
+ */
+public class ProgramSearch implements Planner {
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+    private static final int WON = 1000000;
+    private static final int DEAD = -1000000;
+    private static final int FLAG = 10000;
+    private static final int CARD = 100;
+    private static final int DAMAGE = 50;
+    private static final int TIME_CHECK = 256; // programs played between looking at the clock
+    private static final int LOST = 100; // cards counted for a flag that can not be reached from where the robot is
+
+    private final MoveTable moves;
+    private final DistanceField distances;
+    private final int flagCount;
+    private final int[] laserHits;
+    private final DecisionCache cache;
+
+    /**
+     * Reads the board lasers and flags. Make a new search if they change.
+     */
+    public ProgramSearch(RulesBoard<?> board) {
+        this(board, null);
+    }
+
+    /**
+     * @param cache where found programs are kept, may be null
+     */
+    public ProgramSearch(RulesBoard<?> board, DecisionCache cache) {
+        this.cache = cache;
+        BoardGrid grid = board.getGrid();
+        moves = board.getMoveTable();
+        distances = board.getFlagDistances();
+        flagCount = distances.getFlagCount();
+        laserHits = new int[grid.getWidth() * grid.getHeight()];
+        for (BoardLaser laser : board.getBoardLasers()) {
+            Direction direction = laser.getDirection();
+            int length = grid.getRayLength(laser.getX(), laser.getY(), direction);
+            for (int step = 0; step <= length; step++) {
+                int x = laser.getX() + BoardGrid.dx(direction) * step;
+                int y = laser.getY() + BoardGrid.dy(direction) * step;
+                if (grid.inBounds(x, y)) laserHits[grid.index(x, y)]++;
+            }
+        }
+    }
+
+    /**
+     * Puts the best program into the robot's unlocked registers. Does nothing if they are already full.
+     */
+    public void placeBestProgram(Robot robot) {
+        placeBestProgram(robot, NO_DEADLINE);
+    }
+
+    /**
+     * @param deadline when to stop searching, as a {@link System#nanoTime()}, or {@link #NO_DEADLINE}
+     */
+    public void placeBestProgram(Robot robot, long deadline) {
+        if (robot.getRegisters().isFull()) return;
+
+        ProgramCard[] program = findBestProgram(robot, deadline);
+        ArrayList<ProgramCard> hand = robot.getHand().getCardsInHand();
+        for (ProgramCard card : program) {
+            robot.getRegisters().placeCard(hand.indexOf(card));
+        }
+    }
+
+    /**
+     * @return the cards for the robot's unlocked registers, in the order they should be played.
+     * Empty if the robot has no unlocked registers or not enough cards to fill them.
+     */
+    public ProgramCard[] findBestProgram(Robot robot) {
+        return findBestProgram(robot, NO_DEADLINE);
+    }
+
+    /**
+     * @param deadline when to stop searching, as a {@link System#nanoTime()}, or {@link #NO_DEADLINE}
+     */
+    public ProgramCard[] findBestProgram(Robot robot, long deadline) {
+        ProgramRegisters registers = robot.getRegisters();
+        int free = registers.getNumUnlockedRegisters();
+        ProgramCard[] hand = robot.getHand().getCardsInHand().toArray(new ProgramCard[0]);
+        if (free == 0 || hand.length < free) return new ProgramCard[0];
+
+        ProgramCard[] locked = new ProgramCard[ProgramRegisters.NUMBER_OF_REGISTERS - free];
+        for (int i = 0; i < locked.length; i++) {
+            locked[i] = registers.getCard(free + i);
+        }
+
+        Start start = new Start(robot, hand, locked, free, deadline);
+        DecisionCache.Key key = null;
+        int[] kinds = null;
+        if (cache != null) {
+            key = new DecisionCache.Key(start.state, start.damage, start.targetFlag, start.locked, start.handCounts);
+            kinds = cache.get(key);
+        }
+        if (kinds == null) {
+            Search best = search(start);
+            kinds = new int[free];
+            for (int i = 0; i < free; i++) {
+                kinds[i] = start.hand[best.bestProgram[i]];
+            }
+            // A search that ran out of time may have missed the best program
+            if (cache != null && !start.timedOut) cache.put(key, kinds);
+        }
+
+        // The first card in the hand of each kind is used, so a remembered program picks the same cards
+        ProgramCard[] program = new ProgramCard[free];
+        boolean[] used = new boolean[hand.length];
+        for (int i = 0; i < free; i++) {
+            for (int card = 0; card < hand.length; card++) {
+                if (!used[card] && MoveTable.kindOf(hand[card]) == kinds[i]) {
+                    used[card] = true;
+                    program[i] = hand[card];
+                    break;
+                }
+            }
+        }
+        return program;
+    }
+
+    /**
+     * @return the search that found the best program.
+     */
+    private Search search(Start start) {
+        List<Search> searches = new ArrayList<>();
+        for (int first = 0; first < start.hand.length; first++) {
+            if (first == 0 || start.hand[first] != start.hand[first - 1]) searches.add(new Search(start, first));
+        }
+        SearchAll all = new SearchAll(searches);
+        // A planner already running on a fork join pool, like the game's AI pool, searches on that pool's threads
+        return ForkJoinTask.inForkJoinPool() ? all.invoke() : POOL.invoke(all);
+    }
+
+    @Override
+    public void placeProgram(Robot robot, long deadline) {
+        placeBestProgram(robot, deadline);
+    }
+
+    /**
+     * @return how many programs a hand of this size gives for this many free registers.
+     */
+    public static int countPrograms(int handSize, int freeRegisters) {
+        int count = 1;
+        for (int i = 0; i < freeRegisters; i++) {
+            count *= handSize - i;
+        }
+        return count;
+    }
+
+    /**
+     * What every search starts from.
+     */
+    private static class Start {
+        final int state;
+        final int damage;
+        final int targetFlag;
+        final int[] hand; // kinds of the cards in the hand, sorted
+        final int[] handCounts;
+        final int[] locked;
+        final int free;
+        final long deadline;
+        volatile boolean timedOut;
+
+        Start(Robot robot, ProgramCard[] hand, ProgramCard[] locked, int free, long deadline) {
+            state = MoveTable.state(robot.getY() * robot.getBoard().getWidth() + robot.getX(),
+                    robot.getDirection().toInt());
+            damage = robot.getDamage();
+            targetFlag = robot.getTargetFlag() - 1;
+            handCounts = new int[MoveTable.KINDS];
+            for (int i = 0; i < hand.length; i++) {
+                handCounts[MoveTable.kindOf(hand[i])]++;
+            }
+            this.hand = new int[hand.length];
+            int card = 0;
+            for (int kind = 0; kind < MoveTable.KINDS; kind++) {
+                for (int i = 0; i < handCounts[kind]; i++) {
+                    this.hand[card++] = kind;
+                }
+            }
+            this.locked = new int[locked.length];
+            for (int i = 0; i < locked.length; i++) {
+                this.locked[i] = MoveTable.kindOf(locked[i]);
+            }
+            this.free = free;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the deadline has passed. Once it has, every search stops.
+         */
+        boolean outOfTime() {
+            if (timedOut) return true;
+            if (deadline == NO_DEADLINE || System.nanoTime() - deadline < 0) return false;
+            timedOut = true;
+            return true;
+        }
+    }
+
+    /**
+     * Runs the searches side by side and keeps the best program. Ties go to the search that came first,
+     * so the result does not depend on the number of cores.
+     */
+    private static class SearchAll extends RecursiveTask<Search> {
+        private final List<Search> searches;
+
+        SearchAll(List<Search> searches) {
+            this.searches = searches;
+        }
+
+        @Override
+        protected Search compute() {
+            invokeAll(searches);
+            Search best = null;
+            for (Search search : searches) {
+                if (best == null || search.bestScore > best.bestScore) best = search;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Every program that starts with one card. Each register has its own row in the state arrays,
+     * so going back up the tree is free.
+     */
+    private class Search extends RecursiveTask<Search> {
+        private final Start start;
+        private final int first;
+        private final int[] states;
+        private final int[] damages;
+        private final int[] targets;
+        private final int[] program;
+        private final boolean[] used;
+        private int bestScore = Integer.MIN_VALUE;
+        private int played;
+        private int[] bestProgram;
+
+        Search(Start start, int first) {
+            this.start = start;
+            this.first = first;
+            int phases = ProgramRegisters.NUMBER_OF_REGISTERS + 1;
+            states = new int[phases];
+            damages = new int[phases];
+            targets = new int[phases];
+            program = new int[start.free];
+            used = new boolean[start.hand.length];
+            bestProgram = new int[start.free];
+        }
+
+        @Override
+        protected Search compute() {
+            states[0] = start.state;
+            damages[0] = start.damage;
+            targets[0] = start.targetFlag;
+            choose(0, first);
+            return this;
+        }
+
+        private void choose(int phase, int card) {
+            program[phase] = card;
+            play(phase, start.hand[card]);
+            if (phase + 1 == start.free) {
+                playLocked(phase + 1);
+                return;
+            }
+            used[card] = true;
+            for (int next = 0; next < start.hand.length; next++) {
+                // Of cards of the same kind, only the first one that is left is tried
+                if (used[next] || next > 0 && start.hand[next] == start.hand[next - 1] && !used[next - 1]) continue;
+                choose(phase + 1, next);
+                if (start.timedOut || played % TIME_CHECK == 0 && start.outOfTime()) break;
+            }
+            used[card] = false;
+        }
+
+        private void playLocked(int phase) {
+            for (int i = 0; i < start.locked.length; i++) {
+                play(phase + i, start.locked[i]);
+            }
+            score(ProgramRegisters.NUMBER_OF_REGISTERS);
+        }
+
+        /**
+         * Plays a card and the board moves after it, from row {@code phase} into the next row.
+         * A robot that is destroyed or has won stays as it is.
+         */
+        private void play(int phase, int kind) {
+            int state = states[phase];
+            int damage = damages[phase];
+            int target = targets[phase];
+
+            if (damage < Robot.MAX_DAMAGE && target < flagCount) {
+                state = moves.next(state, kind);
+                if (state == MoveTable.DEAD) {
+                    state = states[phase];
+                    damage = Robot.MAX_DAMAGE;
+                } else {
+                    damage = Math.min(damage + laserHits[MoveTable.cell(state)], Robot.MAX_DAMAGE);
+                    if (damage < Robot.MAX_DAMAGE && distances.get(target, state) == 0) target++;
+                }
+            }
+
+            states[phase + 1] = state;
+            damages[phase + 1] = damage;
+            targets[phase + 1] = target;
+        }
+
+        private void score(int phase) {
+            played++;
+            int flags = targets[phase] - start.targetFlag;
+            int score;
+            if (damages[phase] >= Robot.MAX_DAMAGE) {
+                score = DEAD + flags * FLAG;
+            } else if (targets[phase] >= flagCount) {
+                score = WON - damages[phase] * DAMAGE;
+            } else {
+                int cards = distances.get(targets[phase], states[phase]);
+                if (cards == DistanceField.UNREACHABLE) cards = LOST;
+                score = flags * FLAG - cards * CARD - damages[phase] * DAMAGE;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                System.arraycopy(program, 0, bestProgram, 0, program.length);
+            }
+        }
+    }
+}
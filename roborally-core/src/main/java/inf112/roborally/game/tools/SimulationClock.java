@@ -0,0 +1,54 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.enums.GameSpeed;
+
+/**
+ * Paces the steps of a game, e.g. one card at a time, by real time instead of by frames,
+ * so the game runs equally fast at any frame rate.
+ */
+public class SimulationClock {
+    private final float secondsPerStep;
+    private GameSpeed speed;
+    private float time;
+
+    /**
+     * @param secondsPerStep how long a step takes at normal speed
+     * @param speed          the speed to start at
+     */
+    public SimulationClock(float secondsPerStep, GameSpeed speed) {
+        this.secondsPerStep = secondsPerStep;
+        this.speed = speed;
+    }
+
+    /**
+     * Lets time pass. Time is saved up for at most one step, so a long frame does not make the game jump ahead.
+     *
+     * @param delta seconds since the last frame
+     */
+    public void advance(float delta) {
+        time = Math.min(time + delta * speed.getMultiplier(), secondsPerStep);
+    }
+
+    /**
+     * @return true if it is time for the next step, which is then used up. Always true at instant speed.
+     */
+    public boolean step() {
+        if (speed == GameSpeed.INSTANT) return true;
+        if (time < secondsPerStep) return false;
+
+        time -= secondsPerStep;
+        return true;
+    }
+
+    public boolean isInstant() {
+        return speed == GameSpeed.INSTANT;
+    }
+
+    public GameSpeed getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(GameSpeed speed) {
+        this.speed = speed;
+    }
+}
@@ -0,0 +1,129 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Rotate;
+import org.junit.Before;
+import org.junit.Test;
+
+import static inf112.roborally.game.board.Tiles.tile;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test board is 5x3 with an east going belt along the bottom row that turns north at the end,
+ * an express belt in the middle of the top row and a gyro in the middle.
+ */
+public class BeltResolverTest {
+    private BoardGrid grid;
+    private BeltResolver resolver;
+    private int[] xs;
+    private int[] ys;
+    private Rotate[] rotations;
+
+    @Before
+    public void setup() {
+        grid = new BoardGrid(5, 3);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, tile("Floor", ""), false);
+            }
+        }
+        for (int x = 0; x < 3; x++) {
+            grid.compileCell(BoardGrid.BELT_LAYER, x, 0, tile("Normal", "EAST"), false);
+        }
+        grid.compileCell(BoardGrid.BELT_LAYER, 3, 0, tile("Normal", "NORTH", "Rotate", "LEFT"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 2, 2, tile("Express", "WEST"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 1, 1, tile("Gyro", "RIGHT"), false);
+        grid.finish();
+
+        resolver = new BeltResolver(grid);
+        xs = new int[4];
+        ys = new int[4];
+        rotations = new Rotate[4];
+    }
+
+    private void place(int robot, int x, int y) {
+        xs[robot] = x;
+        ys[robot] = y;
+    }
+
+    @Test
+    public void robotsInALineMoveTogether() {
+        place(0, 0, 0);
+        place(1, 1, 0);
+        resolver.resolve(false, 2, xs, ys, rotations);
+        assertEquals(1, xs[0]);
+        assertEquals(2, xs[1]);
+    }
+
+    @Test
+    public void robotIsRotatedWhenEnteringATurn() {
+        place(0, 2, 0);
+        resolver.resolve(false, 1, xs, ys, rotations);
+        assertEquals(3, xs[0]);
+        assertEquals(Rotate.LEFT, rotations[0]);
+    }
+
+    @Test
+    public void robotStandingStillBlocksTheBelt() {
+        place(0, 2, 0);
+        place(1, 3, 0);
+        place(2, 3, 1);
+        resolver.resolve(false, 3, xs, ys, rotations);
+        assertEquals(2, xs[0]);
+        assertEquals(0, ys[1]);
+        assertEquals(Rotate.NONE, rotations[0]);
+    }
+
+    @Test
+    public void robotsWantingTheSameCellBothStay() {
+        place(0, 3, 0);
+        place(1, 2, 2);
+        grid.compileCell(BoardGrid.BELT_LAYER, 4, 1, tile("Normal", "WEST"), false);
+        grid.finish();
+        place(1, 4, 1);
+        resolver.resolve(false, 2, xs, ys, rotations);
+        assertEquals(3, xs[0]);
+        assertEquals(0, ys[0]);
+        assertEquals(4, xs[1]);
+    }
+
+    @Test
+    public void onlyExpressBeltsMoveInTheExpressStep() {
+        place(0, 0, 0);
+        place(1, 2, 2);
+        resolver.resolve(true, 2, xs, ys, rotations);
+        assertEquals(0, xs[0]);
+        assertEquals(1, xs[1]);
+    }
+
+    @Test
+    public void gyroRotatesRobotsNotOnBelts() {
+        place(0, 1, 1);
+        resolver.resolve(false, 1, xs, ys, rotations);
+        assertEquals(Rotate.RIGHT, rotations[0]);
+        resolver.resolve(true, 1, xs, ys, rotations);
+        assertEquals(Rotate.NONE, rotations[0]);
+    }
+
+    @Test
+    public void gyroDoesNotRotateRobotsABeltCarriesOntoIt() {
+        grid.compileCell(BoardGrid.BELT_LAYER, 0, 1, tile("Normal", "EAST"), false);
+        grid.finish();
+        place(0, 0, 1);
+        resolver.resolve(false, 1, xs, ys, rotations);
+        assertEquals(1, xs[0]);
+        assertEquals(Rotate.NONE, rotations[0]);
+    }
+
+    @Test
+    public void beltsCanCarryRobotsOffTheBoard() {
+        place(0, 3, 0);
+        place(1, 3, 1);
+        grid.compileCell(BoardGrid.BELT_LAYER, 3, 2, tile("Normal", "NORTH"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 3, 1, tile("Normal", "NORTH"), false);
+        grid.finish();
+        place(1, 3, 2);
+        resolver.resolve(false, 2, xs, ys, rotations);
+        assertEquals(1, ys[0]);
+        assertEquals(3, ys[1]);
+    }
+}
@@ -0,0 +1,118 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import org.junit.Before;
+import org.junit.Test;
+
+import static inf112.roborally.game.board.Tiles.tile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BoardGridTest {
+    private BoardGrid grid;
+
+    @Before
+    public void setup() {
+        grid = new BoardGrid(4, 4);
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                if (x == 3 && y == 3) continue; // no floor, off the board
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, tile("Floor", ""), false);
+            }
+        }
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 0, 0, tile("Hole", ""), false);
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 1, 0, tile("Special", "REPAIR"), false);
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 2, 0, tile("Special", "OPTION"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 0, 1, tile("Express", "EAST"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 1, 1, tile("Normal", "NORTH", "Rotate", "LEFT"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 2, 2, tile("Gyro", "RIGHT"), false);
+        grid.compileCell(BoardGrid.LASER_LAYER, 0, 3, tile("Laser", "EAST"), true);
+        grid.compileCell(BoardGrid.START_LAYER, 1, 3, tile("Start", "2"), false);
+        grid.compileCell(BoardGrid.WALL_LAYER, 1, 2, tile("Wall", "NORTH WEST"), false);
+        grid.compileCell(BoardGrid.WALL_LAYER, 3, 0, tile("Wall", "EAST WETS"), false);
+        grid.finish();
+    }
+
+    @Test
+    public void holesAndMissingFloorAreOffTheBoard() {
+        assertTrue(grid.isOffTheBoard(0, 0));
+        assertTrue(grid.isOffTheBoard(3, 3));
+        assertTrue(grid.isOffTheBoard(-1, 2));
+        assertTrue(grid.isOffTheBoard(2, 4));
+        assertFalse(grid.isOffTheBoard(1, 2));
+    }
+
+    @Test
+    public void optionFieldsAreRepairFieldsToo() {
+        assertTrue(grid.isOnRepair(1, 0));
+        assertFalse(grid.isOnOption(1, 0));
+        assertTrue(grid.isOnRepair(2, 0));
+        assertTrue(grid.isOnOption(2, 0));
+        assertFalse(grid.isFloor(2, 0));
+        assertTrue(grid.isFloor(2, 1));
+    }
+
+    @Test
+    public void beltsKeepDirectionAndRotation() {
+        assertTrue(grid.isOnExpressBelt(0, 1));
+        assertEquals(Direction.EAST, grid.getBeltDirection(0, 1));
+        assertEquals(Rotate.NONE, grid.getBeltRotation(0, 1));
+
+        assertTrue(grid.isOnBelt(1, 1));
+        assertFalse(grid.isOnExpressBelt(1, 1));
+        assertEquals(Direction.NORTH, grid.getBeltDirection(1, 1));
+        assertEquals(Rotate.LEFT, grid.getBeltRotation(1, 1));
+    }
+
+    @Test
+    public void gyroIsNotABelt() {
+        assertFalse(grid.isOnBelt(2, 2));
+        assertTrue(grid.isGyro(2, 2));
+        assertEquals(Rotate.RIGHT, grid.getGyroRotation(2, 2));
+    }
+
+    @Test
+    public void lasersAndStartPlates() {
+        assertTrue(grid.hasLaser(0, 3));
+        assertEquals(Direction.EAST, grid.getLaserDirection(0, 3));
+        assertTrue(grid.isLaserFlipped(0, 3));
+        assertEquals(2, grid.getStartNumber(1, 3));
+        assertEquals(0, grid.getStartNumber(0, 3));
+    }
+
+    @Test
+    public void wallsBlockBothWays() {
+        assertFalse(grid.canGo(1, 2, Direction.NORTH));
+        assertFalse(grid.canGo(1, 3, Direction.SOUTH));
+        assertFalse(grid.canGo(1, 2, Direction.WEST));
+        assertFalse(grid.canGo(0, 2, Direction.EAST));
+        assertTrue(grid.canGo(1, 2, Direction.EAST));
+        assertTrue(grid.canGo(1, 2, Direction.SOUTH));
+        assertTrue(grid.canGo(0, 2, Direction.NORTH));
+    }
+
+    @Test
+    public void unknownWallWordsAreIgnored() {
+        assertFalse(grid.canGo(3, 0, Direction.EAST));
+        assertTrue(grid.canGo(3, 0, Direction.WEST));
+    }
+
+    @Test
+    public void wallsOnTheEdgeBlockFromOutside() {
+        assertFalse(grid.canGo(4, 0, Direction.WEST));
+        assertTrue(grid.canGo(4, 1, Direction.WEST));
+    }
+
+    @Test
+    public void raysStopAtWallsAndTheEdge() {
+        assertEquals(3, grid.getRayLength(0, 0, Direction.EAST));
+        assertEquals(0, grid.getRayLength(3, 0, Direction.EAST));
+        assertEquals(0, grid.getRayLength(0, 2, Direction.EAST));
+        assertEquals(2, grid.getRayLength(1, 0, Direction.NORTH));
+        assertEquals(0, grid.getRayLength(1, 3, Direction.SOUTH));
+        assertEquals(1, grid.getRayLength(0, 2, Direction.NORTH));
+        assertEquals(2, grid.getRayLength(0, 2, Direction.SOUTH));
+    }
+}
@@ -0,0 +1,55 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.Robot;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultBoardTest {
+
+    private List<Robot> setUp(final RulesBoard<Robot> board, List<String> names) {
+        return DefaultBoard.setUpMultiplayer(board, "../" + DefaultBoard.MAP, names,
+                new DefaultBoard.RobotMaker<Robot>() {
+                    @Override
+                    public Robot make(int id, String name) {
+                        return new Robot(name, Direction.NORTH, board);
+                    }
+                });
+    }
+
+    @Test
+    public void robotsAreInTheOrderOfTheirIds() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        List<Robot> robots = setUp(board, Arrays.asList("b", "a", "c"));
+
+        assertEquals(3, robots.size());
+        for (int i = 0; i < robots.size(); i++) {
+            assertSame(robots.get(i), board.getPlayers().get(i));
+        }
+        assertEquals("b", robots.get(0).getName());
+    }
+
+    @Test
+    public void twoBoardsSetUpForTheSamePlayersAreTheSame() {
+        RulesBoard<Robot> first = new RulesBoard<>();
+        RulesBoard<Robot> second = new RulesBoard<>();
+        List<String> names = Arrays.asList("host", "guest");
+        setUp(first, names);
+        setUp(second, names);
+        first.placePlayers();
+        second.placePlayers();
+
+        assertEquals(DefaultBoard.FLAGS.length, first.getFlags().size());
+        assertEquals(first.getBoardLasers().size(), second.getBoardLasers().size());
+        StateArena arena = new StateArena(2, 2);
+        first.exportState(arena, 0);
+        second.exportState(arena, 1);
+        assertTrue(arena.sameState(0, 1));
+    }
+}
@@ -0,0 +1,90 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static inf112.roborally.game.board.Tiles.tile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The test board is 5x3 with a flag on (4,0). A wall on the east side of (1,0) and a hole on (2,1)
+ * block the short way along the bottom rows, and a west going belt runs along the top row.
+ */
+public class DistanceFieldTest {
+    private BoardGrid grid;
+    private List<Flag> flags;
+    private DistanceField distances;
+
+    @Before
+    public void setup() {
+        grid = new BoardGrid(5, 3);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, tile("Floor", ""), false);
+            }
+        }
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 2, 1, tile("Hole", ""), false);
+        grid.compileCell(BoardGrid.WALL_LAYER, 1, 0, tile("Wall", "EAST"), false);
+        for (int x = 0; x < 5; x++) {
+            grid.compileCell(BoardGrid.BELT_LAYER, x, 2, tile("Normal", "WEST"), false);
+        }
+        grid.finish();
+
+        flags = new ArrayList<>();
+        flags.add(new Flag(4, 0, 1));
+        distances = new DistanceField(new MoveTable(grid), grid, flags);
+    }
+
+    @Test
+    public void flagIsZeroCardsAway() {
+        for (Direction direction : Direction.values()) {
+            assertEquals(0, distances.get(0, 4, 0, direction));
+        }
+    }
+
+    @Test
+    public void straightLineTakesOneCard() {
+        assertEquals(1, distances.get(0, 2, 0, Direction.EAST));
+        assertEquals(1, distances.get(0, 4, 1, Direction.SOUTH));
+    }
+
+    @Test
+    public void turningCountsAsACard() {
+        assertEquals(2, distances.get(0, 2, 0, Direction.NORTH));
+    }
+
+    @Test
+    public void wallMakesTheRobotGoAround() {
+        // Turn left, forward, turn right, forward 3 over the hole, turn right, forward
+        assertEquals(6, distances.get(0, 1, 0, Direction.EAST));
+    }
+
+    @Test
+    public void beltPullsTheRobotBack() {
+        // Moving east on the belt gets the robot nowhere, so it turns south and is carried away first
+        assertEquals(1, distances.get(0, 4, 2, Direction.SOUTH));
+        assertEquals(4, distances.get(0, 3, 2, Direction.EAST));
+    }
+
+    @Test
+    public void holesAndCellsOutsideTheBoardCanNotReachTheFlag() {
+        assertEquals(DistanceField.UNREACHABLE, distances.get(0, 2, 1, Direction.NORTH));
+        assertEquals(DistanceField.UNREACHABLE, distances.get(0, -1, 0, Direction.EAST));
+        assertEquals(DistanceField.UNREACHABLE, distances.get(0, 5, 0, Direction.EAST));
+    }
+
+    @Test
+    public void matchesOnlyTheSameFlags() {
+        assertTrue(distances.matches(flags));
+        List<Flag> moved = new ArrayList<>();
+        moved.add(new Flag(3, 0, 1));
+        assertFalse(distances.matches(moved));
+    }
+}
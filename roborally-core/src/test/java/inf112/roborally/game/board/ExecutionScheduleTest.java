@@ -0,0 +1,84 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ExecutionScheduleTest {
+    private List<Robot> robots;
+    private ExecutionSchedule<Robot> schedule;
+
+    @Before
+    public void setup() {
+        robots = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            robots.add(new Robot(i, 0, 1));
+        }
+        schedule = new ExecutionSchedule<>();
+    }
+
+    private void program(Robot robot, int... priorities) {
+        for (int priority : priorities) {
+            robot.getRegisters().placeCard(new ProgramCard(Rotate.NONE, 1, priority));
+        }
+    }
+
+    @Test
+    public void everyPhaseIsOrderedByItsOwnPriorities() {
+        program(robots.get(0), 300, 100, 500, 10, 20);
+        program(robots.get(1), 200, 400, 600, 30, 40);
+        program(robots.get(2), 100, 700, 400, 50, 5);
+        schedule.schedule(robots);
+
+        assertEquals(3, schedule.size());
+        assertSame(robots.get(2), schedule.get(0, 0));
+        assertSame(robots.get(1), schedule.get(0, 1));
+        assertSame(robots.get(0), schedule.get(0, 2));
+
+        assertSame(robots.get(0), schedule.get(1, 0));
+        assertSame(robots.get(2), schedule.get(1, 2));
+
+        assertSame(robots.get(2), schedule.get(4, 0));
+        assertSame(robots.get(1), schedule.get(4, 2));
+    }
+
+    @Test
+    public void playersAreNotReordered() {
+        program(robots.get(0), 300, 300, 300, 300, 300);
+        program(robots.get(1), 200, 200, 200, 200, 200);
+        program(robots.get(2), 100, 100, 100, 100, 100);
+        List<Robot> before = new ArrayList<>(robots);
+        schedule.schedule(robots);
+        assertEquals(before, robots);
+    }
+
+    @Test
+    public void emptyRegistersGoFirst() {
+        program(robots.get(0), 300, 300, 300, 300, 300);
+        program(robots.get(2), 100, 100, 100, 100, 100);
+        schedule.schedule(robots);
+        assertSame(robots.get(1), schedule.get(3, 0));
+        assertSame(robots.get(0), schedule.get(3, 2));
+    }
+
+    @Test
+    public void aLaterScheduleReplacesTheFirst() {
+        program(robots.get(0), 300, 300, 300, 300, 300);
+        program(robots.get(1), 200, 200, 200, 200, 200);
+        program(robots.get(2), 100, 100, 100, 100, 100);
+        schedule.schedule(robots);
+
+        robots.remove(2);
+        schedule.schedule(robots);
+        assertEquals(2, schedule.size());
+        assertSame(robots.get(1), schedule.get(0, 0));
+    }
+}
@@ -0,0 +1,91 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.ProgramCard;
+import org.junit.Before;
+import org.junit.Test;
+
+import static inf112.roborally.game.board.Tiles.tile;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test board is 5x3 with a hole in the middle, a wall on the north side of (0,0)
+ * an east going belt on (3,2) and one on (0,2) that feeds a gyro on (1,2).
+ */
+public class MoveTableTest {
+    private BoardGrid grid;
+    private MoveTable moves;
+
+    @Before
+    public void setup() {
+        grid = new BoardGrid(5, 3);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, tile("Floor", ""), false);
+            }
+        }
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 2, 1, tile("Hole", ""), false);
+        grid.compileCell(BoardGrid.WALL_LAYER, 0, 0, tile("Wall", "NORTH"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 3, 2, tile("Normal", "EAST"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 0, 2, tile("Normal", "EAST"), false);
+        grid.compileCell(BoardGrid.BELT_LAYER, 1, 2, tile("Gyro", "LEFT"), false);
+        grid.finish();
+        moves = new MoveTable(grid);
+    }
+
+    private int state(int x, int y, Direction direction) {
+        return MoveTable.state(grid.index(x, y), direction.toInt());
+    }
+
+    @Test
+    public void moveGoesStraightAhead() {
+        assertEquals(state(3, 0, Direction.EAST), moves.next(state(0, 0, Direction.EAST), MoveTable.MOVE_3));
+    }
+
+    @Test
+    public void wallStopsTheMove() {
+        assertEquals(state(0, 0, Direction.NORTH), moves.next(state(0, 0, Direction.NORTH), MoveTable.MOVE_2));
+    }
+
+    @Test
+    public void turnsOnlyChangeTheDirection() {
+        assertEquals(state(0, 0, Direction.WEST), moves.next(state(0, 0, Direction.NORTH), MoveTable.TURN_LEFT));
+        assertEquals(state(0, 0, Direction.EAST), moves.next(state(0, 0, Direction.NORTH), MoveTable.TURN_RIGHT));
+        assertEquals(state(0, 0, Direction.SOUTH), moves.next(state(0, 0, Direction.NORTH), MoveTable.U_TURN));
+    }
+
+    @Test
+    public void backUpKeepsTheDirection() {
+        assertEquals(state(0, 1, Direction.EAST), moves.next(state(1, 1, Direction.EAST), MoveTable.BACK_UP));
+    }
+
+    @Test
+    public void endingInAHoleOrOffTheEdgeIsDeadly() {
+        assertEquals(MoveTable.DEAD, moves.next(state(0, 1, Direction.EAST), MoveTable.MOVE_2));
+        assertEquals(MoveTable.DEAD, moves.next(state(0, 1, Direction.WEST), MoveTable.MOVE_1));
+    }
+
+    @Test
+    public void robotsWalkOverHolesLikeInTheRules() {
+        assertEquals(state(3, 1, Direction.EAST), moves.next(state(0, 1, Direction.EAST), MoveTable.MOVE_3));
+    }
+
+    @Test
+    public void beltsMoveTheRobotAfterTheCard() {
+        assertEquals(state(4, 2, Direction.NORTH), moves.next(state(3, 2, Direction.NORTH), MoveTable.NO_CARD));
+        assertEquals(state(4, 2, Direction.EAST), moves.next(state(2, 2, Direction.EAST), MoveTable.MOVE_1));
+    }
+
+    @Test
+    public void gyroDoesNotTurnTheRobotABeltCarriesOntoIt() {
+        assertEquals(state(1, 2, Direction.NORTH), moves.next(state(0, 2, Direction.NORTH), MoveTable.NO_CARD));
+    }
+
+    @Test
+    public void everyCardInTheDeckHasAKind() {
+        for (int id = 0; id < ProgramCard.DECK_SIZE; id++) {
+            MoveTable.kindOf(ProgramCard.fromId(id));
+        }
+        assertEquals(MoveTable.NO_CARD, MoveTable.kindOf(null));
+    }
+}
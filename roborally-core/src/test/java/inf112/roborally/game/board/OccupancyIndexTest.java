@@ -0,0 +1,66 @@
+package inf112.roborally.game.board;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class OccupancyIndexTest {
+    private OccupancyIndex index;
+
+    @Before
+    public void setup() {
+        index = new OccupancyIndex(5, 5);
+    }
+
+    @Test
+    public void emptyCellHasNoOccupant() {
+        assertEquals(OccupancyIndex.NONE, index.first(2, 2));
+    }
+
+    @Test
+    public void placedSlotIsFound() {
+        index.place(3, 2, 2);
+        assertEquals(3, index.first(2, 2));
+        assertEquals(OccupancyIndex.NONE, index.next(3));
+    }
+
+    @Test
+    public void movingLeavesTheOldCell() {
+        index.place(0, 1, 1);
+        index.place(0, 1, 2);
+        assertEquals(OccupancyIndex.NONE, index.first(1, 1));
+        assertEquals(0, index.first(1, 2));
+    }
+
+    @Test
+    public void robotsCanShareACell() {
+        index.place(0, 4, 4);
+        index.place(1, 4, 4);
+        index.place(2, 4, 4);
+        index.remove(1);
+
+        int first = index.first(4, 4);
+        int second = index.next(first);
+        assertEquals(2, first + second);
+        assertEquals(OccupancyIndex.NONE, index.next(second));
+    }
+
+    @Test
+    public void robotsOutsideTheBoardAreTracked() {
+        index.place(0, -1, 3);
+        index.place(1, 5, 3);
+        assertEquals(0, index.first(-1, 3));
+        assertEquals(1, index.first(5, 3));
+        assertEquals(OccupancyIndex.NONE, index.first(-1, 2));
+        index.place(0, 0, 3);
+        assertEquals(OccupancyIndex.NONE, index.first(-1, 3));
+    }
+
+    @Test
+    public void resizeKeepsEveryRobot() {
+        index.place(0, 6, 6);
+        index.resize(10, 10);
+        assertEquals(0, index.first(6, 6));
+    }
+}
@@ -0,0 +1,120 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.GameLog;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Executing cards and moving the board happens many times a second when many robots are playing,
+ * so any garbage it leaves behind shows up as stutter. This test fails if a phase starts allocating.
+ * A robot picks up flags during the phases, so the flag rules are measured as well.
+ */
+public class PhaseAllocationTest {
+    private static final int[][] PROGRAMS = {
+            {490, 10, 670, 70, 430},
+            {500, 80, 430, 20, 790},
+            {680, 30, 440, 90, 510},
+            {520, 100, 800, 40, 450},
+    };
+    private static final int ROUNDS = 200;
+
+    private RulesBoard<Robot> board;
+    private StateArena start;
+    private ExecutionSchedule<Robot> schedule;
+    private com.sun.management.ThreadMXBean threads;
+
+    @Before
+    public void setup() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        GameLog.setEnabled(false); // as in batch runs, where every phase counts
+
+        // The flags go where the first robot is after each of the first three phases, so it picks up all three
+        makeBoard();
+        Robot first = board.getPlayers().get(0);
+        Flag[] flags = new Flag[3];
+        for (int phase = 0; phase < flags.length; phase++) {
+            for (int turn = 0; turn < schedule.size(); turn++) {
+                schedule.get(phase, turn).getRegisters().executeCard(phase);
+            }
+            board.boardMoves();
+            flags[phase] = new Flag(first.getX(), first.getY(), phase + 1);
+        }
+        makeBoard(flags);
+    }
+
+    @After
+    public void tearDown() {
+        GameLog.setEnabled(true);
+    }
+
+    private void makeBoard(Flag... flags) {
+        board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.findLaserGuns();
+        Collections.addAll(board.getFlags(), flags);
+        for (int i = 0; i < 8; i++) {
+            board.addPlayer(new Robot("robot" + i, Direction.EAST, board));
+        }
+        board.placePlayers();
+        for (int i = 0; i < 8; i++) {
+            Robot robot = board.getPlayers().get(i);
+            for (int priority : PROGRAMS[i % PROGRAMS.length]) {
+                robot.getRegisters().placeCard(ProgramCard.fromId(priority / 10 - 1));
+            }
+        }
+        schedule = new ExecutionSchedule<>();
+        schedule.schedule(board.getPlayers());
+        start = new StateArena(board.getRobotSlotCount(), 1);
+        board.exportState(start, 0);
+    }
+
+    private void playRounds(int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            board.importState(start, 0);
+            for (int phase = 0; phase < 5; phase++) {
+                for (int turn = 0; turn < schedule.size(); turn++) {
+                    schedule.get(phase, turn).getRegisters().executeCard(phase);
+                }
+                board.boardMoves();
+            }
+        }
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void firstRobotPicksUpEveryFlag() {
+        playRounds(1);
+        assertTrue(board.getPlayers().get(0).hasWon());
+    }
+
+    @Test
+    public void phasesDoNotAllocate() {
+        playRounds(ROUNDS * 10); // let the JIT compile everything first
+
+        long measuring = allocatedBytes();
+        measuring = allocatedBytes() - measuring;
+
+        long before = allocatedBytes();
+        playRounds(ROUNDS);
+        long allocated = allocatedBytes() - before - measuring;
+
+        assertEquals("bytes allocated per phase", 0, allocated / (ROUNDS * 5));
+    }
+}
@@ -0,0 +1,131 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static inf112.roborally.game.board.Tiles.tile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Plays on a 5x3 board without libGDX. The bottom row is an east going belt that ends in a hole,
+ * there is a west going laser in the top right corner, a repair site at (4, 1) and a flag at (2, 1).
+ */
+public class RulesBoardTest {
+    private RulesBoard<Robot> board;
+    private ArrayList<String> events;
+
+    @Before
+    public void setup() {
+        BoardGrid grid = new BoardGrid(5, 3);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, tile("Floor", ""), false);
+            }
+        }
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 4, 0, tile("Hole", ""), false);
+        grid.compileCell(BoardGrid.FLOOR_LAYER, 4, 1, tile("Special", "REPAIR"), false);
+        for (int x = 0; x < 4; x++) {
+            grid.compileCell(BoardGrid.BELT_LAYER, x, 0, tile("Normal", "EAST"), false);
+        }
+        grid.compileCell(BoardGrid.LASER_LAYER, 4, 2, tile("Laser", "WEST"), false);
+        grid.finish();
+
+        board = new RulesBoard<>();
+        board.setGrid(grid);
+        board.getFlags().add(new Flag(2, 1, 1));
+        board.findLaserGuns();
+
+        events = new ArrayList<>();
+        board.setListener(new BoardListener() {
+            @Override
+            public void robotFellOff(Robot robot) {
+                events.add("fell " + robot.getName());
+            }
+
+            @Override
+            public void robotHitByLaser(Robot robot) {
+                events.add("laser " + robot.getName());
+            }
+
+            @Override
+            public void robotShot(Robot shooter, Robot target) {
+                events.add(shooter.getName() + " shot " + target.getName());
+            }
+
+            @Override
+            public void robotRepaired(Robot robot) {
+                events.add("repaired " + robot.getName());
+            }
+        });
+    }
+
+    private Robot addRobot(String name, int x, int y, Direction direction) {
+        Robot robot = new Robot(name, direction, board);
+        robot.move(x, y);
+        robot.getBackup().moveToPlayerPosition();
+        board.addPlayer(robot);
+        return robot;
+    }
+
+    @Test
+    public void executedCardPushesOtherRobot() {
+        Robot pusher = addRobot("pusher", 0, 1, Direction.EAST);
+        Robot pushed = addRobot("pushed", 1, 1, Direction.NORTH);
+        pusher.getRegisters().placeCard(new ProgramCard(Rotate.NONE, 2, 500));
+
+        pusher.getRegisters().executeCard(0);
+
+        assertEquals(2, pusher.getX());
+        assertEquals(3, pushed.getX());
+        assertEquals(pusher, board.getRobotAt(2, 1, null));
+    }
+
+    @Test
+    public void beltCarriesRobotIntoHole() {
+        Robot robot = addRobot("rider", 3, 0, Direction.NORTH);
+        board.boardMoves();
+
+        assertTrue(robot.isDestroyed());
+        assertEquals(1, events.size());
+        assertEquals("fell rider", events.get(0));
+    }
+
+    @Test
+    public void boardLaserHitsFirstRobot() {
+        Robot first = addRobot("first", 2, 2, Direction.NORTH);
+        Robot second = addRobot("second", 0, 2, Direction.NORTH);
+        board.lasersFire();
+
+        assertEquals(1, first.getDamage());
+        assertEquals(0, second.getDamage());
+        assertEquals("laser first", events.get(0));
+    }
+
+    @Test
+    public void robotOnFlagVisitsIt() {
+        Robot robot = addRobot("visitor", 2, 1, Direction.SOUTH);
+        board.boardMoves();
+
+        assertEquals(2, robot.getTargetFlag());
+        assertTrue(robot.hasWon());
+    }
+
+    @Test
+    public void cleanUpRepairsRobotOnRepairSite() {
+        Robot robot = addRobot("repaired", 4, 1, Direction.WEST);
+        robot.takeDamage();
+        robot.takeDamage();
+        board.cleanUp();
+
+        assertEquals(1, robot.getDamage());
+        assertEquals("repaired repaired", events.get(0));
+    }
+}
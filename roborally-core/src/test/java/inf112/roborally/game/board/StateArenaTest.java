@@ -0,0 +1,110 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StateArenaTest {
+    private RulesBoard<Robot> board;
+    private Robot first;
+    private Robot second;
+    private StateArena arena;
+
+    @Before
+    public void setup() {
+        BoardGrid grid = new BoardGrid(5, 5);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, new BoardGrid.TileProperties() {
+                    @Override
+                    public String get(String key) {
+                        return key.equals("Floor") ? "" : null;
+                    }
+                }, false);
+            }
+        }
+        grid.finish();
+        board = new RulesBoard<>();
+        board.setGrid(grid);
+
+        first = new Robot("first", Direction.NORTH, board);
+        first.move(1, 1);
+        second = new Robot("second", Direction.EAST, board);
+        second.move(3, 2);
+        board.addPlayer(first);
+        board.addPlayer(second);
+        arena = new StateArena(board.getRobotSlotCount(), 4);
+    }
+
+    @Test
+    public void exportedStateCanBeRestored() {
+        first.getRegisters().placeCard(new ProgramCard(Rotate.NONE, 2, 700));
+        for (int i = 0; i < 6; i++) first.takeDamage();
+        board.exportState(arena, 0);
+
+        first.getRegisters().executeCard(0);
+        first.repairAllDamage();
+        first.getRegisters().returnCards();
+        first.rotate(Rotate.LEFT);
+        assertEquals(3, first.getY());
+
+        board.importState(arena, 0);
+        assertEquals(1, first.getX());
+        assertEquals(1, first.getY());
+        assertEquals(Direction.NORTH, first.getDirection());
+        assertEquals(6, first.getDamage());
+        assertTrue(first.getRegisters().isLocked(3));
+        assertEquals(700, first.getRegisters().getCard(0).getPriority());
+        assertNull(first.getRegisters().getCard(1));
+        assertEquals(first, board.getRobotAt(1, 1, null));
+        assertNull(board.getRobotAt(1, 3, null));
+    }
+
+    @Test
+    public void forkedSlotsAreIndependent() {
+        board.exportState(arena, 0);
+        arena.copy(0, 1);
+        assertTrue(arena.sameState(0, 1));
+
+        arena.set(1, StateArena.X, 1, 4);
+        arena.set(1, StateArena.PLAYER_STATE, 1, PlayerState.DESTROYED.ordinal());
+        assertFalse(arena.sameState(0, 1));
+        assertEquals(3, arena.get(0, StateArena.X, 1));
+
+        board.importState(arena, 1);
+        assertEquals(4, second.getX());
+        assertTrue(second.isDestroyed());
+        board.importState(arena, 0);
+        assertEquals(3, second.getX());
+        assertTrue(second.isOperational());
+    }
+
+    @Test
+    public void sortingPlayersDoesNotMoveThemInTheArena() {
+        board.exportState(arena, 0);
+        board.getPlayers().remove(first);
+        board.getPlayers().add(first);
+        board.importState(arena, 0);
+        assertEquals(1, first.getX());
+        assertEquals(3, second.getX());
+    }
+
+    @Test
+    public void unchangedRegisterCardsAreKept() {
+        ProgramCard card = new ProgramCard(Rotate.LEFT, 0, 111);
+        first.getRegisters().placeCard(card);
+        board.exportState(arena, 0);
+        board.importState(arena, 0);
+        assertSame(card, first.getRegisters().getCard(0));
+    }
+}
@@ -0,0 +1,27 @@
+package inf112.roborally.game.board;
+
+import java.util.HashMap;
+
+/**
+ * Tile properties for building small test boards without a tmx file.
+ */
+final class Tiles {
+    private Tiles() {
+    }
+
+    /**
+     * @param keysAndValues the properties of the tile, as key, value, key, value...
+     */
+    static BoardGrid.TileProperties tile(String... keysAndValues) {
+        final HashMap<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new BoardGrid.TileProperties() {
+            @Override
+            public String get(String key) {
+                return properties.get(key);
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TmxBoardReaderTest {
+    private static final String MAPS = "../assets/maps/";
+
+    @Test
+    public void readsCsvMap() {
+        BoardGrid grid = TmxBoardReader.read(MAPS + "lasertest.tmx");
+        assertEquals(10, grid.getWidth());
+        assertEquals(10, grid.getHeight());
+        assertEquals(1, grid.getStartNumber(4, 6));
+        assertEquals(8, grid.getStartNumber(5, 3));
+        assertTrue(grid.hasLaser(0, 3));
+        assertFalse(grid.isOffTheBoard(9, 9));
+    }
+
+    @Test
+    public void readsCompressedMapWithFirstRowOnTop() {
+        BoardGrid grid = TmxBoardReader.read(MAPS + "vault.tmx");
+        assertEquals(18, grid.getWidth());
+        assertEquals(14, grid.getHeight());
+        assertTrue(grid.isOffTheBoard(0, 0));
+        assertTrue(grid.isOffTheBoard(1, 0));
+        assertTrue(grid.isOffTheBoard(1, 13));
+        assertEquals(1, grid.getStartNumber(2, 7));
+        assertTrue(grid.isOnBelt(2, 12));
+        assertEquals(Direction.SOUTH, grid.getBeltDirection(2, 12));
+        assertTrue(grid.isOnRepair(10, 7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingMapIsRejected() {
+        TmxBoardReader.read(MAPS + "no_such_map.tmx");
+    }
+
+    @Test
+    public void decodesBase64() {
+        assertArrayEquals("RoboRally".getBytes(), TmxBoardReader.decodeBase64("Um9ib1JhbGx5"));
+        assertArrayEquals("Robo".getBytes(), TmxBoardReader.decodeBase64(" Um9i\nbw== "));
+    }
+}
@@ -0,0 +1,153 @@
+package inf112.roborally.game.board;
+
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ZobristHashTest {
+    private RulesBoard<Robot> board;
+    private Robot first;
+    private Robot second;
+
+    @Before
+    public void setup() {
+        board = makeBoard();
+        first = addRobot(board, "first", 1, 1);
+        second = addRobot(board, "second", 3, 2);
+    }
+
+    private RulesBoard<Robot> makeBoard() {
+        BoardGrid grid = new BoardGrid(5, 5);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, new BoardGrid.TileProperties() {
+                    @Override
+                    public String get(String key) {
+                        return key.equals("Floor") ? "" : null;
+                    }
+                }, false);
+            }
+        }
+        grid.finish();
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.setGrid(grid);
+        board.getFlags().add(new Flag(4, 4, 1));
+        return board;
+    }
+
+    private Robot addRobot(RulesBoard<Robot> board, String name, int x, int y) {
+        Robot robot = new Robot(name, Direction.NORTH, board);
+        robot.move(x, y);
+        board.addPlayer(robot);
+        return robot;
+    }
+
+    @Test
+    public void undoingChangesGivesTheSameHash() {
+        long start = board.getStateHash();
+        first.move(2);
+        first.rotate(Rotate.UTURN);
+        assertNotEquals(start, board.getStateHash());
+
+        first.move(2);
+        first.rotate(Rotate.UTURN);
+        assertEquals(start, board.getStateHash());
+    }
+
+    @Test
+    public void everyFeatureChangesTheHash() {
+        long hash = board.getStateHash();
+        first.move(1);
+        assertNotEquals(hash, hash = board.getStateHash());
+        first.rotate(Rotate.RIGHT);
+        assertNotEquals(hash, hash = board.getStateHash());
+        first.takeDamage();
+        assertNotEquals(hash, hash = board.getStateHash());
+        for (int i = 0; i < 3; i++) first.takeDamage();
+        hash = board.getStateHash();
+        first.takeDamage();
+        assertEquals(1, 5 - first.getRegisters().getNumUnlockedRegisters());
+        assertNotEquals(hash, hash = board.getStateHash());
+        first.visitFlag(1);
+        assertNotEquals(hash, hash = board.getStateHash());
+        first.destroy();
+        assertNotEquals(hash, board.getStateHash());
+    }
+
+    @Test
+    public void sameStateOnAnotherBoardHasTheSameHash() {
+        RulesBoard<Robot> other = makeBoard();
+        Robot otherFirst = addRobot(other, "first", 0, 0);
+        Robot otherSecond = addRobot(other, "second", 0, 0);
+
+        for (int i = 0; i < 6; i++) first.takeDamage();
+        second.rotate(Rotate.LEFT);
+        second.reverse();
+
+        otherFirst.move(1, 1);
+        for (int i = 0; i < 6; i++) otherFirst.takeDamage();
+        otherSecond.move(4, 2);
+        otherSecond.setDirection(Direction.WEST);
+
+        assertEquals(board.getStateHash(), other.getStateHash());
+    }
+
+    @Test
+    public void robotsAreNotInterchangeable() {
+        long hash = board.getStateHash();
+        first.move(3, 2);
+        second.move(1, 1);
+        assertNotEquals(hash, board.getStateHash());
+    }
+
+    @Test
+    public void importedStateHasTheExportedHash() {
+        StateArena arena = new StateArena(board.getRobotSlotCount(), 1);
+        board.exportState(arena, 0);
+        long hash = board.getStateHash();
+
+        first.move(3);
+        first.destroy();
+        first.respawn();
+        second.visitFlag(1);
+        board.importState(arena, 0);
+        assertEquals(hash, board.getStateHash());
+    }
+
+    @Test
+    public void differentCardsInTheLockedRegistersGiveDifferentHashes() {
+        RulesBoard<Robot> other = makeBoard();
+        Robot otherFirst = addRobot(other, "first", 1, 1);
+        addRobot(other, "second", 3, 2);
+        for (int i = 0; i < 5; i++) {
+            first.getRegisters().placeCard(ProgramCard.fromId(i));
+            otherFirst.getRegisters().placeCard(ProgramCard.fromId(i == 4 ? 50 : i));
+        }
+        assertEquals(board.getStateHash(), other.getStateHash()); // nothing is locked yet
+
+        for (int i = 0; i < 5; i++) {
+            first.takeDamage();
+            otherFirst.takeDamage();
+        }
+        assertEquals(1, 5 - first.getRegisters().getNumUnlockedRegisters());
+        assertNotEquals(board.getStateHash(), other.getStateHash());
+    }
+
+    @Test
+    public void cardsInUnlockedRegistersDoNotChangeTheHash() {
+        long hash = board.getStateHash();
+        first.getRegisters().placeCard(ProgramCard.fromId(3));
+        assertEquals(hash, board.getStateHash());
+
+        for (int i = 0; i < 5; i++) first.takeDamage();
+        first.repairAllDamage();
+        assertEquals(hash, board.getStateHash());
+    }
+}
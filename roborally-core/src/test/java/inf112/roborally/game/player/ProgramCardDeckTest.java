@@ -0,0 +1,95 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.tools.GameRandom;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProgramCardDeckTest {
+    private ProgramCardDeck deck;
+
+    @Before
+    public void setup() {
+        deck = new ProgramCardDeck(new GameRandom(5));
+    }
+
+    @Test
+    public void dealsEveryCardOnce() {
+        HashSet<Integer> priorities = new HashSet<>();
+        for (int i = 0; i < ProgramCard.DECK_SIZE; i++) {
+            priorities.add(deck.deal().getPriority());
+        }
+        assertEquals(ProgramCard.DECK_SIZE, priorities.size());
+        assertEquals(0, deck.size());
+    }
+
+    @Test
+    public void dealtCardsAreShared() {
+        ProgramCard card = deck.deal();
+        assertSame(ProgramCard.fromId(card.getId()), card);
+    }
+
+    @Test
+    public void returnedCardsAreDealtWhenTheDeckRunsOut() {
+        List<ProgramCard> dealt = new ArrayList<>();
+        for (int i = 0; i < ProgramCard.DECK_SIZE; i++) {
+            dealt.add(deck.deal());
+        }
+        for (int i = 0; i < 50; i++) {
+            deck.returnCard(dealt.get(i));
+        }
+        assertEquals(50, deck.getReturnedCount());
+
+        HashSet<ProgramCard> reshuffled = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            reshuffled.add(deck.deal());
+        }
+        assertEquals(new HashSet<>(dealt.subList(0, 50)), reshuffled);
+        assertEquals(0, deck.getReturnedCount());
+    }
+
+    @Test
+    public void sameSeedDealsSameCards() {
+        ProgramCardDeck other = new ProgramCardDeck(new GameRandom(5));
+        for (int i = 0; i < ProgramCard.DECK_SIZE; i++) {
+            assertSame(deck.deal(), other.deal());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void emptyDeckWithoutReturnedCardsThrows() {
+        for (int i = 0; i <= ProgramCard.DECK_SIZE; i++) {
+            deck.deal();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void cannotReturnMoreThanDealt() {
+        ProgramCard card = deck.deal();
+        deck.returnCard(card);
+        deck.returnCard(card);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cardsFromOutsideTheDeckAreRejected() {
+        deck.deal();
+        deck.returnCard(new ProgramCard(Rotate.NONE, 1, 111));
+    }
+
+    @Test
+    public void everyIdBelongsToItsCard() {
+        for (int id = 0; id < ProgramCard.DECK_SIZE; id++) {
+            assertEquals(id, ProgramCard.fromId(id).getId());
+        }
+        assertTrue(new ProgramCard(Rotate.LEFT, 0, 70).getId() < 0);
+        assertSame(ProgramCard.fromId(0), ProgramCard.valueOf("UTURN", "0", "10"));
+    }
+}
@@ -4,32 +4,38 @@ import inf112.roborally.game.enums.Rotate;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class ProgramCardTest {
-    private Stack<ProgramCard> stackOfCards;
+    private List<ProgramCard> stackOfCards;
 
     @Before
     public void setup() {
-        stackOfCards = ProgramCard.makeProgramCardDeck();
+        stackOfCards = new ArrayList<>();
+        for (int id = 0; id < ProgramCard.DECK_SIZE; id++) {
+            stackOfCards.add(ProgramCard.fromId(id));
+        }
     }
 
     @Test
-    public void secondConstructorTest() {
-        ProgramCard pc = new ProgramCard("NONE","1","10");
+    public void valueOfReadsWrittenCards() {
+        ProgramCard pc = ProgramCard.valueOf("NONE","1","10");
         assertEquals(Rotate.NONE, pc.getRotate());
         assertEquals(1, pc.getMoveDistance());
         assertEquals(10, pc.getPriority());
 
-        pc = new ProgramCard("LEFT", "0", "111");
+        pc = ProgramCard.valueOf("LEFT", "0", "111");
         assertEquals(Rotate.LEFT, pc.getRotate());
         assertEquals(0, pc.getMoveDistance());
         assertEquals(111, pc.getPriority());
 
-        pc = new ProgramCard("RIGHT", "10", "9000");
+        pc = ProgramCard.valueOf("RIGHT", "10", "9000");
         assertEquals(Rotate.RIGHT, pc.getRotate());
         assertEquals(10, pc.getMoveDistance());
         assertEquals(9000, pc.getPriority());
@@ -131,4 +137,24 @@ public class ProgramCardTest {
                 fail();
         }
     }
+
+    @Test
+    public void packedCardsUnpackToEqualCards() {
+        for (ProgramCard card : stackOfCards) {
+            ProgramCard unpacked = ProgramCard.unpack(card.pack());
+            assertEquals(card.getRotate(), unpacked.getRotate());
+            assertEquals(card.getMoveDistance(), unpacked.getMoveDistance());
+            assertEquals(card.getPriority(), unpacked.getPriority());
+        }
+        ProgramCard backUp = ProgramCard.unpack(new ProgramCard(Rotate.NONE, -1, 435).pack());
+        assertEquals(-1, backUp.getMoveDistance());
+        assertEquals(435, backUp.getPriority());
+    }
+
+    @Test
+    public void standardCardsAreShared() {
+        ProgramCard card = stackOfCards.get(stackOfCards.size() - 1);
+        assertSame(ProgramCard.unpack(card.pack()), ProgramCard.unpack(card.pack()));
+        assertNull(ProgramCard.unpack(0));
+    }
 }
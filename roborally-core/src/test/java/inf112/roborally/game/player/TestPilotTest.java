@@ -0,0 +1,63 @@
+package inf112.roborally.game.player;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestPilotTest {
+    private RulesBoard<Robot> board;
+    private Robot robot;
+
+    @Before
+    public void setup() {
+        board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.getFlags().add(new Flag(11, 10, 2));
+        robot = new Robot("robot", Direction.EAST, board);
+        robot.move(3, 5);
+        board.addPlayer(robot);
+    }
+
+    @Test
+    public void resetTakesThePoseOfTheRobot() {
+        TestPilot pilot = new TestPilot();
+        pilot.reset(robot);
+
+        assertEquals(3, pilot.getX());
+        assertEquals(5, pilot.getY());
+        assertEquals(Direction.EAST, pilot.getDirection());
+        assertEquals(robot.getTargetFlag(), pilot.getTargetFlag());
+    }
+
+    @Test
+    public void destroyedPilotIsAsGoodAsNewAfterAReset() {
+        TestPilot pilot = robot.createTestPilot();
+        pilot.destroy();
+        pilot.reset(robot);
+
+        assertFalse(pilot.isDestroyed());
+        assertEquals(0, pilot.getDamage());
+    }
+
+    @Test
+    public void pilotWalksThroughRobotsWithoutPushingThem() {
+        Robot other = new Robot("other", Direction.NORTH, board);
+        other.move(4, 5);
+        board.addPlayer(other);
+        TestPilot pilot = robot.createTestPilot();
+
+        pilot.move(1);
+
+        assertEquals(4, pilot.getX());
+        assertEquals(4, other.getX());
+        assertTrue(board.getPlayers().contains(other));
+        assertFalse(board.getPlayers().contains(pilot));
+    }
+}
@@ -0,0 +1,75 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.TmxBoardReader;
+import inf112.roborally.game.enums.DeathCause;
+import inf112.roborally.game.tools.GameRandom;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRunnerTest {
+    private BoardGrid grid;
+    private int[][] flags;
+
+    @Before
+    public void setup() {
+        grid = TmxBoardReader.read(BatchRunner.findMap("vault"));
+        flags = BatchRunner.defaultFlags(grid);
+    }
+
+    @Test
+    public void defaultFlagsOnTheVaultAreTheQuickPlayFlags() {
+        assertArrayEquals(new int[][]{{7, 7}, {11, 10}, {13, 1}}, flags);
+    }
+
+    @Test
+    public void flagsCanBeGivenAsText() {
+        assertArrayEquals(new int[][]{{1, 2}, {3, 4}}, BatchRunner.parseFlags("1,2; 3,4"));
+    }
+
+    @Test
+    public void gameEndsWithinTheRoundLimit() {
+        SimulatedGame game = new SimulatedGame(grid, flags, 4, new GameRandom(3));
+        game.play(50);
+        assertTrue(game.getRounds() >= 1 && game.getRounds() <= 50);
+        if (game.getWinner() != null) {
+            assertEquals(game.getWinner().getName(), "Robot" + game.getWinningStartPlate());
+        }
+    }
+
+    @Test
+    public void sameSeedGivesTheSameGame() {
+        SimulatedGame first = new SimulatedGame(grid, flags, 4, new GameRandom(11));
+        SimulatedGame second = new SimulatedGame(grid, flags, 4, new GameRandom(11));
+        first.play(100);
+        second.play(100);
+        assertEquals(first.getRounds(), second.getRounds());
+        assertEquals(first.getWinningStartPlate(), second.getWinningStartPlate());
+        assertEquals(first.getBoard().getStateHash(), second.getBoard().getStateHash());
+    }
+
+    @Test
+    public void totalsDoNotDependOnTheNumberOfThreads() {
+        BatchRunner runner = new BatchRunner(grid, flags, 4, 100);
+        BatchResult alone = runner.run(40, 5, 1);
+        BatchResult shared = runner.run(40, 5, 4);
+
+        assertEquals(40, alone.getGames());
+        assertEquals(alone.getRounds(), shared.getRounds());
+        for (int plate = 0; plate <= 4; plate++) {
+            assertEquals(alone.getWins(plate), shared.getWins(plate));
+        }
+        for (DeathCause cause : DeathCause.values()) {
+            assertEquals(alone.getDeaths(cause), shared.getDeaths(cause));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void morePlayersThanStartPlatesThrows() {
+        new SimulatedGame(grid, flags, 9, new GameRandom(1));
+    }
+}
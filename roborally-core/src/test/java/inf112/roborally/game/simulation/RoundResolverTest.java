@@ -0,0 +1,178 @@
+package inf112.roborally.game.simulation;
+
+import inf112.roborally.game.board.ExecutionSchedule;
+import inf112.roborally.game.board.RoundRecord;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.board.StateArena;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.GameRandom;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RoundResolverTest {
+
+    private RulesBoard<Robot> makeGame(int players) {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.getFlags().add(new Flag(11, 10, 2));
+        for (int i = 0; i < players; i++) {
+            board.addPlayer(new Robot("Robot" + (i + 1), Direction.NORTH, board));
+        }
+        board.placePlayers();
+        board.findLaserGuns();
+        return board;
+    }
+
+    private List<ProgramCard> program(GameRandom random) {
+        List<ProgramCard> cards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            cards.add(ProgramCard.fromId(random.nextInt(ProgramCard.DECK_SIZE)));
+        }
+        return cards;
+    }
+
+    /**
+     * Deals the program to the player and plays it.
+     */
+    private void setDealtProgram(RoundResolver resolver, int player, List<ProgramCard> program) {
+        resolver.deal(player, program);
+        assertTrue(resolver.setProgram(player, program));
+    }
+
+    @Test
+    public void recordsEveryCardAndBoardMove() {
+        RulesBoard<Robot> board = makeGame(2);
+        RoundResolver resolver = new RoundResolver(board, board.getPlayers());
+        GameRandom random = new GameRandom(4);
+        setDealtProgram(resolver, 0, program(random));
+        setDealtProgram(resolver, 1, program(random));
+
+        RoundRecord round = resolver.playRound();
+
+        assertEquals(RoundRecord.maxSteps(2), round.getSteps());
+        assertEquals(0, round.getPhase(0));
+        assertEquals(RoundRecord.BOARD_MOVES, round.getActor(2));
+        assertEquals(4, round.getPhase(round.getSteps() - 2));
+        assertEquals(RoundRecord.CLEAN_UP, round.getActor(round.getSteps() - 1));
+    }
+
+    @Test
+    public void recordedRoundIsTheRoundTheRobotsPlay() {
+        RulesBoard<Robot> served = makeGame(3);
+        RulesBoard<Robot> board = makeGame(3);
+        List<Robot> played = new ArrayList<>(board.getPlayers());
+        RoundResolver resolver = new RoundResolver(served, served.getPlayers());
+        GameRandom random = new GameRandom(11);
+        for (int i = 0; i < 3; i++) {
+            List<ProgramCard> program = program(random);
+            setDealtProgram(resolver, i, program);
+            for (int j = 0; j < program.size(); j++) {
+                played.get(i).getRegisters().placeCard(program.get(j));
+            }
+        }
+
+        RoundRecord round = resolver.playRound();
+        assertEquals(RoundRecord.maxSteps(3), round.getSteps());
+        ExecutionSchedule<Robot> schedule = new ExecutionSchedule<>();
+        schedule.schedule(played);
+        StateArena arena = new StateArena(3, 2);
+        int step = 0;
+        for (int phase = 0; phase < 5; phase++) {
+            for (int turn = 0; turn <= schedule.size(); turn++) {
+                if (turn < schedule.size()) schedule.get(phase, turn).getRegisters().executeCard(phase);
+                else board.boardMoves();
+                round.getStates().copyTo(step, arena, 0);
+                for (int i = 0; i < 3; i++) {
+                    played.get(i).exportState(arena, 1, i);
+                }
+                assertTrue("step " + step, arena.sameState(0, 1));
+                step++;
+            }
+        }
+    }
+
+    @Test
+    public void robotOfAPlayerThatLeftIsNotPlayed() {
+        RulesBoard<Robot> board = makeGame(3);
+        List<Robot> robots = new ArrayList<>(board.getPlayers());
+        RoundResolver resolver = new RoundResolver(board, robots);
+        GameRandom random = new GameRandom(4);
+        for (int i = 0; i < 3; i++) {
+            setDealtProgram(resolver, i, program(random));
+        }
+        int x = robots.get(1).getX();
+        resolver.removePlayer(1);
+
+        RoundRecord round = resolver.playRound();
+
+        assertEquals(RoundRecord.maxSteps(2), round.getSteps());
+        for (int step = 0; step < round.getSteps(); step++) {
+            assertTrue(round.getActor(step) != 1);
+            assertEquals(x, round.getStates().get(step, StateArena.X, 1));
+        }
+    }
+
+    @Test
+    public void programWithCardsThatWereNotDealtIsTurnedDown() {
+        RulesBoard<Robot> board = makeGame(1);
+        Robot robot = board.getPlayers().get(0);
+        RoundResolver resolver = new RoundResolver(board, board.getPlayers());
+        List<ProgramCard> hand = program(new GameRandom(4));
+        resolver.deal(0, hand);
+        List<ProgramCard> program = new ArrayList<>(hand);
+        program.set(2, ProgramCard.fromId(hand.get(2).getId() == 0 ? 1 : 0));
+
+        assertFalse(resolver.setProgram(0, program));
+        for (int i = 0; i < 5; i++) {
+            assertSame(hand.get(i), robot.getRegisters().getCard(i)); // filled from the hand instead
+        }
+    }
+
+    @Test
+    public void wholeHandComesBackAfterTheRound() {
+        RulesBoard<Robot> board = makeGame(1);
+        RoundResolver resolver = new RoundResolver(board, board.getPlayers());
+        List<ProgramCard> hand = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            hand.add(ProgramCard.fromId(10 * i));
+        }
+        resolver.deal(0, hand);
+        assertTrue(resolver.setProgram(0, hand.subList(0, 5)));
+
+        resolver.playRound();
+        List<ProgramCard> returned = resolver.takeReturnedCards(0);
+
+        assertEquals(hand.size(), returned.size());
+        assertTrue(returned.containsAll(hand));
+        assertTrue(resolver.takeReturnedCards(0).isEmpty());
+    }
+
+    @Test
+    public void cardsLockedInTheRegistersDoNotComeBack() {
+        RulesBoard<Robot> board = makeGame(1);
+        Robot robot = board.getPlayers().get(0);
+        RoundResolver resolver = new RoundResolver(board, board.getPlayers());
+        List<ProgramCard> hand = program(new GameRandom(7));
+        setDealtProgram(resolver, 0, hand);
+        for (int i = 0; i < 6; i++) {
+            robot.takeDamage(); // locks the last two registers
+        }
+
+        resolver.playRound();
+
+        assertEquals(hand.subList(0, 3), resolver.takeReturnedCards(0));
+        assertSame(hand.get(3), robot.getRegisters().getCard(3));
+        assertSame(hand.get(4), robot.getRegisters().getCard(4));
+    }
+}
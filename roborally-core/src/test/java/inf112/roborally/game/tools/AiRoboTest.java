@@ -0,0 +1,114 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AiRoboTest {
+    private RulesBoard<Robot> board;
+    private ExecutorService pool;
+
+    @Before
+    public void setup() {
+        board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.findLaserGuns();
+        pool = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private Robot addRobot(long seed) {
+        Robot robot = new Robot("robot", Direction.NORTH, board);
+        robot.move(3, 5);
+        board.addPlayer(robot);
+        GameRandom random = new GameRandom(seed);
+        while (robot.getHand().size() < robot.getCardLimit()) {
+            robot.getHand().receiveCard(ProgramCard.fromId(random.nextInt(ProgramCard.DECK_SIZE)));
+        }
+        return robot;
+    }
+
+    @Test
+    public void planningOnACopyLeavesTheRobotAlone() throws Exception {
+        Robot robot = addRobot(8);
+        Planner planner = AiRobo.createPlanner(board, AiMode.EXHAUSTIVE, null);
+
+        Future<Robot> plan = AiRobo.submitDecision(pool, robot, planner, Planner.NO_DEADLINE);
+        Robot planned = plan.get();
+
+        assertTrue(planned.getRegisters().isFull());
+        assertTrue(robot.getRegisters().isEmpty());
+        assertEquals(9, robot.getHand().size());
+        assertEquals(robot.getX(), planned.getX());
+        assertEquals(robot.getDirection(), planned.getDirection());
+    }
+
+    @Test
+    public void appliedPlanIsTheSameAsPlanningOnTheRobot() throws Exception {
+        Robot robot = addRobot(8);
+        Robot other = addRobot(8);
+        Planner planner = AiRobo.createPlanner(board, AiMode.EXHAUSTIVE, null);
+
+        AiRobo.applyDecision(robot, AiRobo.submitDecision(pool, robot, planner, Planner.NO_DEADLINE).get(),
+                new GameRandom(1));
+        AiRobo.makeDecisionsForRobos(Collections.singletonList(other), new GameRandom(1), planner, 0);
+
+        assertEquals(PlayerState.READY, robot.getPlayerState());
+        assertEquals(other.wantsToPowerDown, robot.wantsToPowerDown);
+        for (int i = 0; i < 5; i++) {
+            assertSame(other.getRegisters().getCard(i), robot.getRegisters().getCard(i));
+        }
+    }
+
+    @Test
+    public void planningCopyDoesNotPushTheRobotsOnTheBoard() {
+        Robot robot = addRobot(8);
+        Robot blocker = addRobot(9);
+        blocker.move(3, 6);
+
+        Robot copy = robot.createPlanningCopy();
+        copy.move(1);
+
+        assertEquals(6, copy.getY());
+        assertEquals(6, blocker.getY());
+        assertEquals(5, robot.getY());
+    }
+
+    @Test
+    public void searchOnAForkJoinPoolUsesItsThreads() throws Exception {
+        Robot robot = addRobot(8);
+        Robot other = addRobot(8);
+        Planner planner = AiRobo.createPlanner(board, AiMode.EXHAUSTIVE, null);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+        Robot planned = AiRobo.submitDecision(forkJoinPool, robot, planner, Planner.NO_DEADLINE).get();
+        planner.placeProgram(other, Planner.NO_DEADLINE);
+        forkJoinPool.shutdown();
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(other.getRegisters().getCard(i), planned.getRegisters().getCard(i));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.MoveTable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class DecisionCacheTest {
+
+    private DecisionCache.Key key(int state) {
+        int[] hand = new int[MoveTable.KINDS];
+        hand[MoveTable.MOVE_1] = 9;
+        return new DecisionCache.Key(state, 0, 0, new int[0], hand);
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        DecisionCache cache = new DecisionCache(10);
+        assertNull(cache.get(key(1)));
+        cache.put(key(1), new int[]{MoveTable.MOVE_1});
+        assertArrayEquals(new int[]{MoveTable.MOVE_1}, cache.get(key(1)));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void forgetsTheLeastRecentlyUsedProgram() {
+        DecisionCache cache = new DecisionCache(2);
+        cache.put(key(1), new int[0]);
+        cache.put(key(2), new int[0]);
+        cache.get(key(1));
+        cache.put(key(3), new int[0]);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(key(2)));
+        assertArrayEquals(new int[0], cache.get(key(1)));
+    }
+
+    @Test
+    public void lockedRegistersAndHandArePartOfTheKey() {
+        int[] hand = new int[MoveTable.KINDS];
+        hand[MoveTable.MOVE_1] = 4;
+        int[] otherHand = new int[MoveTable.KINDS];
+        otherHand[MoveTable.MOVE_2] = 4;
+        DecisionCache.Key key = new DecisionCache.Key(5, 6, 0, new int[]{MoveTable.U_TURN}, hand);
+
+        assertEquals(key, new DecisionCache.Key(5, 6, 0, new int[]{MoveTable.U_TURN}, hand));
+        assertNotEquals(key, new DecisionCache.Key(5, 6, 0, new int[]{MoveTable.BACK_UP}, hand));
+        assertNotEquals(key, new DecisionCache.Key(5, 6, 0, new int[]{MoveTable.U_TURN}, otherHand));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBePositive() {
+        new DecisionCache(0);
+    }
+}
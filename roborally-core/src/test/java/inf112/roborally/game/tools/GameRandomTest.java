@@ -0,0 +1,65 @@
+package inf112.roborally.game.tools;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameRandomTest {
+
+    @Test
+    public void sameSeedGivesSameNumbers() {
+        GameRandom a = new GameRandom(42);
+        GameRandom b = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    public void splitStreamsAreReproducibleAndDifferent() {
+        GameRandom a = new GameRandom(7);
+        GameRandom b = new GameRandom(7);
+        GameRandom firstA = a.split();
+        GameRandom secondA = a.split();
+        GameRandom firstB = b.split();
+
+        long first = firstA.nextLong();
+        assertEquals(first, firstB.nextLong());
+        assertNotEquals(first, secondA.nextLong());
+    }
+
+    @Test
+    public void nextIntStaysWithinBound() {
+        GameRandom random = new GameRandom(1);
+        int[] counts = new int[50];
+        for (int i = 0; i < 50000; i++) {
+            counts[random.nextInt(50)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextIntNeedsPositiveBound() {
+        new GameRandom(1).nextInt(0);
+    }
+
+    @Test
+    public void shuffleKeepsAllElements() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 84; i++) list.add(i);
+        List<Integer> shuffled = new ArrayList<>(list);
+        new GameRandom(3).shuffle(shuffled);
+
+        assertNotEquals(list, shuffled);
+        Collections.sort(shuffled);
+        assertEquals(list, shuffled);
+    }
+}
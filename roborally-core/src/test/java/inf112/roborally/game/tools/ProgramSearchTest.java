@@ -0,0 +1,178 @@
+package inf112.roborally.game.tools;
+
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.enums.Rotate;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProgramSearchTest {
+
+    private RulesBoard<Robot> makeFloor() {
+        BoardGrid grid = new BoardGrid(5, 5);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                grid.compileCell(BoardGrid.FLOOR_LAYER, x, y, new BoardGrid.TileProperties() {
+                    @Override
+                    public String get(String key) {
+                        return key.equals("Floor") ? "" : null;
+                    }
+                }, false);
+            }
+        }
+        grid.finish();
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.setGrid(grid);
+        board.getFlags().add(new Flag(4, 4, 1));
+        return board;
+    }
+
+    private Robot addRobot(RulesBoard<Robot> board, int x, int y) {
+        Robot robot = new Robot("robot", Direction.NORTH, board);
+        robot.move(x, y);
+        board.addPlayer(robot);
+        return robot;
+    }
+
+    private void deal(Robot robot, GameRandom random) {
+        while (robot.getHand().size() < robot.getCardLimit()) {
+            robot.getHand().receiveCard(ProgramCard.fromId(random.nextInt(ProgramCard.DECK_SIZE)));
+        }
+    }
+
+    private void playRound(RulesBoard<Robot> board, Robot robot) {
+        for (int phase = 0; phase < 5; phase++) {
+            robot.getRegisters().executeCard(phase);
+            board.boardMoves();
+        }
+    }
+
+    @Test
+    public void nineCardsMakeFifteenThousandPrograms() {
+        assertEquals(15120, ProgramSearch.countPrograms(9, 5));
+        assertEquals(60, ProgramSearch.countPrograms(5, 3));
+    }
+
+    @Test
+    public void findsTheWayToTheFlag() {
+        RulesBoard<Robot> board = makeFloor();
+        Robot robot = addRobot(board, 0, 0);
+        int priority = 10;
+        for (ProgramCard card : new ProgramCard[]{
+                new ProgramCard(Rotate.LEFT, 0, priority++), new ProgramCard(Rotate.UTURN, 0, priority++),
+                new ProgramCard(Rotate.NONE, -1, priority++), new ProgramCard(Rotate.NONE, 1, priority++),
+                new ProgramCard(Rotate.RIGHT, 0, priority++), new ProgramCard(Rotate.NONE, 3, priority++),
+                new ProgramCard(Rotate.NONE, 1, priority++), new ProgramCard(Rotate.LEFT, 0, priority++),
+                new ProgramCard(Rotate.NONE, 3, priority)}) {
+            robot.getHand().receiveCard(card);
+        }
+
+        new ProgramSearch(board).placeBestProgram(robot);
+        assertTrue(robot.getRegisters().isFull());
+        playRound(board, robot);
+
+        assertTrue(robot.hasWon());
+    }
+
+    @Test
+    public void lockedRegistersKeepTheirCards() {
+        RulesBoard<Robot> board = makeFloor();
+        Robot robot = addRobot(board, 2, 2);
+        GameRandom random = new GameRandom(3);
+        deal(robot, random);
+        new ProgramSearch(board).placeBestProgram(robot);
+        for (int i = 0; i < 6; i++) {
+            robot.takeDamage();
+        }
+        ProgramCard fourth = robot.getRegisters().getCard(3);
+        ProgramCard fifth = robot.getRegisters().getCard(4);
+        robot.returnCards().clear();
+        deal(robot, random);
+
+        ProgramCard[] program = new ProgramSearch(board).findBestProgram(robot);
+        assertEquals(3, program.length);
+        new ProgramSearch(board).placeBestProgram(robot);
+
+        assertTrue(robot.getRegisters().isFull());
+        assertSame(fourth, robot.getRegisters().getCard(3));
+        assertSame(fifth, robot.getRegisters().getCard(4));
+    }
+
+    @Test
+    public void sameHandGivesTheSameProgram() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.findLaserGuns();
+        Robot robot = addRobot(board, 3, 5);
+        deal(robot, new GameRandom(8));
+
+        ProgramSearch search = new ProgramSearch(board);
+        assertArrayEquals(search.findBestProgram(robot), search.findBestProgram(robot));
+    }
+
+    @Test
+    public void cachedProgramIsTheSameAsASearchedOne() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.findLaserGuns();
+        Robot robot = addRobot(board, 3, 5);
+        deal(robot, new GameRandom(8));
+        DecisionCache cache = new DecisionCache(10);
+
+        ProgramCard[] searched = new ProgramSearch(board, cache).findBestProgram(robot);
+        ProgramCard[] remembered = new ProgramSearch(board, cache).findBestProgram(robot);
+
+        assertArrayEquals(new ProgramSearch(board).findBestProgram(robot), searched);
+        assertArrayEquals(searched, remembered);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void searchOutOfTimeStillGivesAWholeProgram() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.findLaserGuns();
+        Robot robot = addRobot(board, 3, 5);
+        deal(robot, new GameRandom(8));
+        DecisionCache cache = new DecisionCache(10);
+
+        new ProgramSearch(board, cache).placeProgram(robot, System.nanoTime());
+
+        assertTrue(robot.getRegisters().isFull());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void searchesNineCardsInUnderFiftyMilliseconds() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        board.findLaserGuns();
+        Robot robot = addRobot(board, 3, 5);
+        deal(robot, new GameRandom(8));
+        ProgramSearch search = new ProgramSearch(board);
+        for (int i = 0; i < 20; i++) {
+            search.findBestProgram(robot); // let the JIT compile the search first
+        }
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            search.findBestProgram(robot);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        assertTrue("took " + fastest / 1000000 + " ms", fastest < 50000000L);
+    }
+}
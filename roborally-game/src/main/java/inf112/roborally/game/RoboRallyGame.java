@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import inf112.roborally.game.board.Board;
+import inf112.roborally.game.board.DefaultBoard;
 import inf112.roborally.game.gui.CameraListener;
 import inf112.roborally.game.objects.Flag;
 import inf112.roborally.game.player.Player;
@@ -23,6 +24,8 @@ import inf112.roborally.game.screens.menus.setup.SelectSkinScreen;
 import inf112.roborally.game.server.Client;
 import inf112.roborally.game.server.Server;
 import inf112.roborally.game.tools.AssMan;
+import inf112.roborally.game.tools.GameLog;
+import inf112.roborally.game.tools.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +38,7 @@ public class RoboRallyGame extends Game {
     public static final String DEFAULT_PLAYER_NAME = "Player1";
 
     //MAPS:
-    private static final String VAULT = "assets/maps/vault.tmx";
+    private static final String VAULT = DefaultBoard.MAP;
     private static final String TEST_MAP = "assets/maps/testMap.tmx";
     private static final String SPACE_BUG = "assets/maps/space_bug.tmx";
     private static final String SPACE_BUG2 = "assets/maps/space_bug2.tmx";
@@ -62,11 +65,14 @@ public class RoboRallyGame extends Game {
     public Client client;
     public ArrayList<String> playerNames;
     public int playersInGame;
-    public int readyPlayers; // To be used in multiplayer
     public boolean connectedToServer;
     public ArrayList<String> deadPlayers;
 
     public Board board;
+    /**
+     * The random stream of the current game. Split it for every part of the game that needs randomness.
+     */
+    public GameRandom random = createRandom();
 
     public String playerName = DEFAULT_PLAYER_NAME;
     public boolean testing;
@@ -77,6 +83,16 @@ public class RoboRallyGame extends Game {
     private Screen screenBefore;
 
 
+    /**
+     * Makes the root random stream of the game and prints its seed, so the game can be played again with
+     * {@link GameRandom#SEED_PROPERTY}.
+     */
+    private static GameRandom createRandom() {
+        long seed = GameRandom.createSeed();
+        GameLog.print("Using random seed " + seed);
+        return new GameRandom(seed);
+    }
+
     public void removeMultiplayerSettings(){
         playerName = DEFAULT_PLAYER_NAME;
         multiPlayer = false;
@@ -187,17 +203,20 @@ public class RoboRallyGame extends Game {
         board.findLaserGuns();
     }
 
+    /**
+     * Sets up the board the same way the server does, with a robot for every player in the order of their ids.
+     */
     private void createDefaultMultiplayerBoard() {
-        board.createBoard(VAULT);
-        createFlags();
-        board.addPlayersToBoard(createNumberOfPlayersFromMultiplayer());
-        board.findLaserGuns();
+        DefaultBoard.setUpMultiplayer(board, playerNames, new DefaultBoard.RobotMaker<Player>() {
+            @Override
+            public Player make(int id, String name) {
+                return new Player(name, AssMan.getPlayerSkins()[id], NORTH, board, RoboRallyGame.this);
+            }
+        });
     }
 
     public void createFlags(){
-        board.getFlags().add(new Flag(7, 7, 1));
-        board.getFlags().add(new Flag(11, 10, 2));
-        board.getFlags().add(new Flag(13, 1, 3));
+        DefaultBoard.addFlags(board);
     }
 
     private List<Player> createDefaultPlayers() {
@@ -232,22 +251,10 @@ public class RoboRallyGame extends Game {
         return players;
     }
 
-    private List<Player> createNumberOfPlayersFromMultiplayer() {
-        if (numberOfChosenPlayers < 1 || numberOfChosenPlayers > MAX_PLAYERS) {
-            return null;
-        }
-
-        List<Player> players = new ArrayList<>();
-
-        for (int i = 0; i < playerNames.size(); i++) {
-            players.add(new Player(playerNames.get(i), AssMan.getPlayerSkins()[i], NORTH, board, this));
-        }
-        return players;
-    }
-
     public void createTestBoard() {
         board.createBoard(TEST_MAP);
         board.getFlags().add(new Flag(1, 7, 1));
+        board.updateFlagDistances();
         board.addPlayersToBoard(createDefaultPlayers());
         board.findLaserGuns();
         setScreen(new GameScreen(this));
@@ -0,0 +1,35 @@
+package inf112.roborally.game.animations;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import inf112.roborally.game.Main;
+import inf112.roborally.game.objects.GameObject;
+import inf112.roborally.game.objects.Position;
+
+public abstract class Animation extends GameObject {
+    protected int lifetime;
+    protected int stateTimer;
+    protected Sprite sprite;
+
+    public Animation(Position position) {
+        super(position);
+    }
+
+    protected abstract void update();
+
+    public void updateSprite() {
+        sprite.setPosition(position.getX() * Main.PIXELS_PER_TILE, position.getY() * Main.PIXELS_PER_TILE);
+    }
+
+    public void draw(SpriteBatch batch) {
+        sprite.draw(batch);
+    }
+
+    public boolean hasFinished() {
+        return lifetime < stateTimer;
+    }
+
+    public void dispose() {
+        sprite.getTexture().dispose();
+    }
+}
@@ -0,0 +1,166 @@
+package inf112.roborally.game.board;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import inf112.roborally.game.Main;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.animations.Animation;
+import inf112.roborally.game.animations.LaserAnimation;
+import inf112.roborally.game.animations.RepairAnimation;
+import inf112.roborally.game.objects.BoardLaser;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.objects.LaserBeam;
+import inf112.roborally.game.player.Player;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.AssMan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+
+@SuppressWarnings("Duplicates")
+public class Board extends TiledBoard {
+    protected final ArrayList<LaserAnimation> lasers;
+    protected final ArrayList<LaserBeam> laserGuns;
+    protected final RoboRallyGame game;
+    private final HashMap<Integer, Sprite> flagSprites;
+    private Sprite backupSprite;
+    protected Player thisPlayer;
+    protected int thisPlayerIndex;
+    private float volume = .25f;
+
+    public Board(final RoboRallyGame game) {
+        this.game = game;
+        lasers = new ArrayList<>();
+        laserGuns = new ArrayList<>();
+        flagSprites = new HashMap<>();
+        setListener(new BoardListener() {
+            @Override
+            public void robotFellOff(Robot robot) {
+                if (!RoboRallyGame.soundMuted) {
+                    AssMan.manager.get(AssMan.SOUND_PLAYER_WILHELM_SCREAM).play(volume);
+                }
+            }
+
+            @Override
+            public void robotHitByLaser(Robot robot) {
+                System.out.println("Lasers hit " + robot.getName());
+                if (!RoboRallyGame.soundMuted) {
+                    AssMan.manager.get(AssMan.SOUND_PLAYER_LASER).play();
+                }
+            }
+
+            @Override
+            public void robotShot(Robot shooter, Robot target) {
+                System.out.println(shooter.getName() + " shoots " + target.getName());
+            }
+
+            @Override
+            public void robotRepaired(Robot robot) {
+                if (!RoboRallyGame.soundMuted) {
+                    AssMan.manager.get(AssMan.SOUND_PLAYER_REPAIR).play(volume);
+                }
+                addAnimation(new RepairAnimation(robot.position));
+            }
+        });
+    }
+
+    @Override
+    public void findLaserGuns() {
+        int found = boardLasers.size();
+        super.findLaserGuns();
+        for (int i = found; i < boardLasers.size(); i++) {
+            laserGuns.add(new LaserBeam(boardLasers.get(i), this));
+        }
+    }
+
+    @Override
+    public void placePlayers() {
+        super.placePlayers();
+        for (Player currentPlayer : players) {
+            currentPlayer.updateSprite();
+        }
+    }
+
+    private void addAnimation(Animation animation) {
+        game.gameScreen.animations.add(animation);
+    }
+
+    public void drawGameObjects(SpriteBatch batch) {
+        drawBackup(batch);
+        drawLasers(batch);
+        renderWalls();
+        drawPlayers(players, batch);
+        drawFlags(batch);
+    }
+
+    public void drawLasers(SpriteBatch batch) {
+        for (LaserBeam beam : laserGuns)
+            beam.draw(batch);
+    }
+
+    /**
+     * Every backup looks the same, so one sprite is moved around and drawn for each of them.
+     */
+    private void drawBackup(SpriteBatch batch) {
+        if (backupSprite == null) {
+            backupSprite = new Sprite(AssMan.manager.get(AssMan.BACKUP));
+            backupSprite.setSize(Main.PIXELS_PER_TILE, Main.PIXELS_PER_TILE);
+        }
+        for (Player player : players) {
+            backupSprite.setPosition(player.getBackup().getX() * Main.PIXELS_PER_TILE,
+                    player.getBackup().getY() * Main.PIXELS_PER_TILE);
+            backupSprite.draw(batch);
+        }
+    }
+
+    private void drawFlags(SpriteBatch batch) {
+        for (Flag flag : flags) {
+            Sprite sprite = flagSprites.get(flag.getFlagNumber());
+            if (sprite == null) {
+                sprite = AssMan.manager.get(AssMan.FLAG_ATLAS).createSprite(Integer.toString(flag.getFlagNumber()));
+                sprite.setSize(Main.PIXELS_PER_TILE, Main.PIXELS_PER_TILE);
+                flagSprites.put(flag.getFlagNumber(), sprite);
+            }
+            sprite.setPosition(flag.getX() * Main.PIXELS_PER_TILE, flag.getY() * Main.PIXELS_PER_TILE);
+            sprite.draw(batch);
+        }
+    }
+
+    private void drawPlayers(List<Player> list, SpriteBatch batch) {
+        for (Player player : list)
+            player.draw(batch);
+    }
+
+    public void setThisPlayer() {
+        int playerIndex = 0;
+        for (Player player : players) {
+            if (player.getName().equals(game.playerName)) {
+                this.thisPlayer = player;
+            } else {
+                playerIndex++;
+            }
+        }
+        this.thisPlayerIndex = playerIndex;
+    }
+
+    public Player getThisPlayer() {
+        return this.thisPlayer;
+    }
+
+    public void dispose() {
+        System.out.println("Disposing board");
+        super.dispose();
+
+        for (LaserAnimation beam : laserGuns) {
+            beam.dispose();
+        }
+        for (LaserAnimation laser : lasers) {
+            laser.dispose();
+        }
+        for (Player player : players) {
+            player.dispose();
+        }
+    }
+}
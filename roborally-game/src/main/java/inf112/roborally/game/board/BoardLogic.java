@@ -2,51 +2,77 @@ package inf112.roborally.game.board;
 
 import com.badlogic.gdx.Gdx;
 import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.enums.AiMode;
+import inf112.roborally.game.enums.Difficulty;
+import inf112.roborally.game.enums.GameSpeed;
 import inf112.roborally.game.enums.GameState;
 import inf112.roborally.game.enums.PlayerState;
 import inf112.roborally.game.player.Player;
 import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramCardDeck;
+import inf112.roborally.game.server.Protocol;
+import inf112.roborally.game.tools.DecisionCache;
+import inf112.roborally.game.tools.GameRandom;
+import inf112.roborally.game.tools.SimulationClock;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
 
 import static inf112.roborally.game.enums.GameState.*;
-import static java.util.Collections.shuffle;
 
 @SuppressWarnings("Duplicates")
 public class BoardLogic {
+    /**
+     * How long each card is shown before the next one is played, at normal speed.
+     */
+    public static final float SECONDS_BETWEEN_CARDS = 0.18f;
 
-    private final int timeBetweenPlayers;
+    protected final SimulationClock clock;
     protected int phase;
     protected GameState state;
     protected List<Player> players;
-    protected Stack<ProgramCard> returnedProgramCards;
-    protected Stack<ProgramCard> stackOfProgramCards;
+    protected ProgramCardDeck deck;
     protected ArrayList<Player> aiBots;
-    private int timeElapsed = 0;
+    protected final GameRandom random;
+    protected final AiMode aiMode = AiMode.create();
+    protected final DecisionCache decisionCache = DecisionCache.create();
+    protected final Difficulty difficulty = Difficulty.create();
     private int executionIndex;
-    private boolean sorted;
+    private boolean scheduled;
+    private final ExecutionSchedule<Player> schedule = new ExecutionSchedule<>();
     private RoboRallyGame game;
 
     public BoardLogic(List<Player> players, RoboRallyGame game) {
         this.players = players;
         this.game = game;
+        random = game.random.split();
         aiBots = new ArrayList<>();
         if (players.get(0).isDebuggingActive() || ((RoboRallyGame) Gdx.app.getApplicationListener()).AIvsAI) {
             aiBots.add(players.get(0));
-            timeBetweenPlayers = 1;
+            clock = new SimulationClock(SECONDS_BETWEEN_CARDS, GameSpeed.FAST);
         } else {
-            timeBetweenPlayers = 10;
+            clock = new SimulationClock(SECONDS_BETWEEN_CARDS, GameSpeed.NORMAL);
         }
         for (int i = 1; i < players.size(); i++)
             aiBots.add(players.get(i));
 
         phase = 0;
         state = BETWEEN_ROUNDS;
-        stackOfProgramCards = ProgramCard.makeProgramCardDeck();
-        returnedProgramCards = new Stack<>();
+        deck = new ProgramCardDeck(random);
+    }
+
+    /**
+     * Moves the game forward. At instant speed a whole round is played before this returns,
+     * and the sprites jump to where the robots ended up.
+     *
+     * @param delta seconds since the last update
+     */
+    public void update(float delta) {
+        clock.advance(delta);
+        do {
+            executeLogic();
+        } while (clock.isInstant() && (state == ROUND || state == BOARD_MOVES));
+        updatePlayers();
     }
 
     void executeLogic() {
@@ -95,7 +121,7 @@ public class BoardLogic {
         }
         state = PICKING_CARDS;
         executionIndex = 0;
-        sorted = false;
+        scheduled = false;
     }
 
     protected void respawnRobots() {
@@ -116,16 +142,23 @@ public class BoardLogic {
             }
             else if (player.getPlayerState() == PlayerState.GAME_OVER) {
                 System.out.println(player.getName() + " was removed.");
-                players.remove(player);
+                removePlayer(player);
                 aiBots.remove(player);
                 if(RoboRallyGame.multiPlayer && player.getName().equals(game.playerName)){
                     System.out.println("PLAYER REMOVED FROM THE GAME, AND DIED CALLED");
-                    game.client.sendMessage("DIED " +  player.getName());
+                    game.client.sendMessage(Protocol.DIED, game.client.getPlayerId());
                 }
             }
         }
     }
 
+    /**
+     * Overwritten in {@link GameLogic} and {@link MultiplayerLogic} so the board stops tracking the player too.
+     */
+    protected void removePlayer(Player player) {
+        players.remove(player);
+    }
+
     protected void powerUpRobots() {
         for (Player player : players) {
             player.powerUp();
@@ -139,8 +172,8 @@ public class BoardLogic {
     }
 
     private boolean allPlayersReady() {
-        for (Player player : players) {
-            if (!player.isReady()) return false;
+        for (int i = 0; i < players.size(); i++) {
+            if (!players.get(i).isReady()) return false;
         }
         return true;
     }
@@ -156,7 +189,10 @@ public class BoardLogic {
     }
 
     protected void doPhase() {
-        if (!sorted) sortPlayersByPriority();
+        if (!scheduled) {
+            schedule.schedule(players);
+            scheduled = true;
+        }
         if (phase >= 5) {
             phase = 0;
             state = BETWEEN_ROUNDS;
@@ -164,34 +200,21 @@ public class BoardLogic {
             return;
         }
 
-        if (++timeElapsed > timeBetweenPlayers) {
+        if (clock.step()) {
             executeCards();
-            timeElapsed = 0;
         }
         checkIfAPlayerHasWon();
 
 
-        if (executionIndex == players.size()) {
+        if (executionIndex == schedule.size()) {
             state = BOARD_MOVES;
             executionIndex = 0;
             phase++;
         }
     }
 
-    private void sortPlayersByPriority() {
-        for (Player player : players) {
-            player.setPhase(phase);
-        }
-        try {
-            Collections.sort(players);
-        } catch (NullPointerException e) {
-            throw new NullPointerException("AIRobots: " + aiBots.size() + "\n Players: " + players.size());
-        }
-        sorted = true;
-    }
-
     private void executeCards() {
-        players.get(executionIndex++).getRegisters().executeCard(phase);
+        schedule.get(phase, executionIndex++).getRegisters().executeCard(phase);
         updatePlayers();
     }
 
@@ -211,7 +234,8 @@ public class BoardLogic {
             return players.get(0);
         }
 
-        for (Player player : players) {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
             if (player.hasWon()) {
                 System.out.printf("%s just won the game by collecting all the flags!!%n", player.getName());
                 state = GAME_OVER;
@@ -228,41 +252,42 @@ public class BoardLogic {
     }
 
 
+    /**
+     * Called every frame, so it loops with an index to not allocate an iterator.
+     */
     public void updatePlayers() {
-        for (Player player : players) {
-            player.updateSprite();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).updateSprite();
         }
     }
 
     /**
-     * Gives the player as many cards as allowed from the stack of program cards.
+     * Gives the player as many cards as allowed from the deck. The deck reshuffles the returned cards by itself
+     * if the game drags on and it runs out.
      *
      * @param player which player to give program cards to.
      */
     private void giveCardsToPlayer(Player player) {
         for (int i = 0; i < player.getCardLimit(); i++) {
-            if (stackOfProgramCards.isEmpty()) { // in case the game drags on and we run out of cards - Morten
-                reshuffleDeck();
-            }
-            player.getHand().receiveCard(stackOfProgramCards.pop());
+            player.getHand().receiveCard(deck.deal());
         }
     }
 
     protected void retrieveCardsFromPlayer(Player player) {
         ArrayList<ProgramCard> playerCards = player.returnCards();
-        while (!playerCards.isEmpty()) {
-            returnedProgramCards.push(playerCards.remove(0));
+        for (int i = 0; i < playerCards.size(); i++) {
+            deck.returnCard(playerCards.get(i));
         }
+        playerCards.clear();
     }
 
-    /**
-     * If the stack of cards run out of cards we need to reshuffle all the returned cards and deal them out instead
-     * Move this to ProgramCard maybe..
-     */
-    private void reshuffleDeck() {
-        while (!returnedProgramCards.empty())
-            stackOfProgramCards.push(returnedProgramCards.pop());
-        shuffle(stackOfProgramCards);
+    public GameSpeed getGameSpeed() {
+        return clock.getSpeed();
+    }
+
+    public void setGameSpeed(GameSpeed speed) {
+        System.out.println("Game speed: " + speed);
+        clock.setSpeed(speed);
     }
 
     public GameState getState() {
@@ -0,0 +1,138 @@
+package inf112.roborally.game.board;
+
+import com.badlogic.gdx.Gdx;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.gui.Hud;
+import inf112.roborally.game.player.Player;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.AiRobo;
+import inf112.roborally.game.tools.Planner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+public class GameLogic extends BoardLogic {
+    /**
+     * The AI robots plan here, so the frame does not stall while they think. The exhaustive search forks
+     * onto the same threads, so planning never uses more threads than there are cores.
+     */
+    private static final ForkJoinPool AI_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("ai-planner-" + thread.getPoolIndex());
+                    return thread;
+                }
+            }, null, false);
+
+    private final Hud hud;
+    private final List<Player> planning = new ArrayList<>();
+    private final List<Future<Robot>> plans = new ArrayList<>();
+    private int appliedPlans;
+    private int shownPhase = -1; // the cards of a phase are only added to the hud once, not every frame
+    private Board board;
+    private RoboRallyGame game;
+
+    public GameLogic(Board board, Hud hud, RoboRallyGame game) {
+        super(board.getPlayers(), game);
+        this.game = game;
+        this.board = board;
+        this.hud = hud;
+    }
+
+    /**
+     * Gives the AI robots the programs that are done. They are given in the same order as the robots were
+     * submitted, so the power downs are drawn from the random stream in the same order every game.
+     * Robots that are still planning stay unready, so the round waits for them while the screen is drawn.
+     */
+    @Override
+    public void aiRobosReady() {
+        while (appliedPlans < plans.size() && plans.get(appliedPlans).isDone()) {
+            try {
+                AiRobo.applyDecision(planning.get(appliedPlans), plans.get(appliedPlans).get(), random);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("The AI could not plan for "
+                        + planning.get(appliedPlans).getName(), e);
+            }
+            appliedPlans++;
+        }
+    }
+
+    /**
+     * Starts one planning task for each AI robot as soon as the cards are dealt.
+     */
+    private void submitAiPlans() {
+        for (int i = 0; i < plans.size(); i++) {
+            plans.get(i).cancel(true);
+        }
+        planning.clear();
+        plans.clear();
+        appliedPlans = 0;
+
+        Planner planner = AiRobo.createPlanner(board, aiMode, decisionCache);
+        long budget = difficulty.getBudgetMillis();
+        long deadline = budget <= 0 ? Planner.NO_DEADLINE : System.nanoTime() + budget * 1000000L;
+        for (int i = 0; i < aiBots.size(); i++) {
+            Player bot = aiBots.get(i);
+            if (bot.outOfLives()) continue;
+            planning.add(bot);
+            plans.add(AiRobo.submitDecision(AI_POOL, bot, planner, deadline));
+        }
+    }
+
+    @Override
+    public void doBeforeRound() {
+        super.doBeforeRound();
+        submitAiPlans();
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                hud.updateCardButtons();
+                hud.resetPowerDown();
+                hud.setButtonTouchable(true);
+                if (game.AIvsAI) {
+                    hud.setButtonTouchable(false);
+                }
+                hud.getPlayerStatusDisplay().clearCards();
+            }
+        });
+    }
+
+    @Override
+    protected void boardMoves() {
+        board.boardMoves();
+        super.boardMoves();
+    }
+
+    @Override
+    protected void removePlayer(Player player) {
+        board.removePlayer(player);
+    }
+
+    @Override
+    protected void endGame() {
+        game.endGameScreen.addWinner(checkIfAPlayerHasWon());
+        game.setScreen(game.endGameScreen);
+    }
+
+    @Override
+    protected void cleanBoard() {
+        super.cleanBoard();
+        board.cleanUp();
+    }
+
+    @Override
+    protected void doPhase() {
+        if (phase < 5 && phase != shownPhase) {
+            hud.getPlayerStatusDisplay().clearCards();
+            hud.getPlayerStatusDisplay().addCards(phase);
+            shownPhase = phase;
+        }
+        super.doPhase();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,254 @@
+package inf112.roborally.game.board;
+
+import com.badlogic.gdx.Gdx;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.enums.GameState;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.gui.Hud;
+import inf112.roborally.game.player.Player;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.server.Snapshot;
+
+import java.util.ArrayList;
+
+import static inf112.roborally.game.enums.GameState.*;
+
+/**
+ * The server plays the rounds, see {@link inf112.roborally.game.simulation.RoundResolver}. This only picks the cards
+ * of this player and shows the rounds the server sends, one step each time the clock ticks.
+ */
+public class MultiplayerLogic extends BoardLogic implements Runnable {
+    private final Hud hud;
+    private int shownPhase = -1; // the cards of a phase are only added to the hud once, not every frame
+
+    private Board board;
+    private RoboRallyGame game;
+    private Player thisPlayer;
+    private final ArrayList<Player> playersById; // the players in the order of their ids, also after some have left
+    private final StateArena shown;
+    private RoundRecord round;
+    private int step;
+    private Snapshot snapshot; // the state the server had after the round that is shown now
+
+    public MultiplayerLogic(Board board, Hud hud, RoboRallyGame game) {
+        super(board.getPlayers(), game);
+        this.game = game;
+        this.board = board;
+        this.hud = hud;
+        thisPlayer = board.getThisPlayer();
+        playersById = new ArrayList<>(board.getPlayers());
+        shown = new StateArena(playersById.size(), 1);
+        // A player that joined a game in progress catches up with the snapshot it got when it connected
+        if (game.client != null) receiveSnapshot(game.client.takeSnapshot());
+    }
+
+
+    @Override
+    public void executeLogic() {
+        switch (state) {
+            case BETWEEN_ROUNDS:
+                doBeforeRound();
+                break;
+            case PICKING_CARDS:
+                if (thisPlayer.isReady()) {
+                    state = WAITINGFORONLINEPLAYERS;
+                }
+                break;
+            case WAITINGFORONLINEPLAYERS:
+                // Picking cards or waiting for other players
+                break;
+            case ROUND:
+                doPhase();
+                break;
+            case BOARD_MOVES:
+                boardMoves();
+                break;
+            case GAME_OVER:
+                endGame();
+                break;
+        }
+    }
+
+    @Override
+    public void doBeforeRound() {
+//        super.doBeforeRound();
+        System.out.println("Set up before multiplayerround");
+        // The server has already repaired, respawned and powered up the robots at the end of the last round
+        powerDownRobots();
+        removeDeadRobots();
+
+        // Return the cards from this player only. The server dealt them, and it gets the
+        // played ones back with the CARD message, so they do not go into the local deck
+        thisPlayer.returnCards().clear();
+
+
+        for (Player player : players) {
+            if (!player.equals(thisPlayer)) {
+                player.getHand().removeAllCards();
+                player.getRegisters().returnCards();
+            }
+        }
+
+        // Request new cards from the server
+        game.client.requestCards(thisPlayer.getCardLimit());
+        state = PICKING_CARDS;
+
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                hud.updateCardButtons();
+                hud.resetPowerDown();
+                hud.setButtonTouchable(true);
+                hud.getPlayerStatusDisplay().clearCards();
+            }
+        });
+    }
+
+    @Override
+    protected void removePlayer(Player player) {
+        board.removePlayer(player);
+    }
+
+    @Override
+    protected void endGame() {
+        game.endGameScreen.addWinner(checkIfAPlayerHasWon());
+        game.setScreen(game.endGameScreen);
+    }
+
+    /**
+     * Shows the next step of the round from the server when it is time for it.
+     */
+    @Override
+    protected void doPhase() {
+        if (round == null) return;
+        if (step == round.getSteps()) {
+            round = null;
+            applySnapshot();
+            state = BETWEEN_ROUNDS;
+            System.out.println("Round over");
+            return;
+        }
+
+        phase = round.getPhase(step);
+        if (phase < 5 && phase != shownPhase) {
+            hud.getPlayerStatusDisplay().clearCards();
+            hud.getPlayerStatusDisplay().addCards(phase);
+            shownPhase = phase;
+        }
+        if (clock.step()) {
+            showStep(step++);
+        }
+        checkIfAPlayerHasWon();
+    }
+
+    /**
+     * Moves the players to where the server had the robots after the step. The players keep their own registers,
+     * the server does not send them.
+     */
+    private void showStep(int step) {
+        StateArena states = round.getStates();
+        for (int i = 0; i < playersById.size(); i++) {
+            Player player = playersById.get(i);
+            player.exportState(shown, 0, i);
+            for (int field = 0; field < StateArena.REGISTER; field++) {
+                shown.set(0, field, i, states.get(step, field, i));
+            }
+            player.importState(shown, 0, i);
+        }
+        if (board.getListener() != null) {
+            round.replayEvents(step, board.getListener(), playersById);
+        }
+        updatePlayers();
+    }
+
+    /**
+     * Keeps the state of the server's robots until the round that is shown is over, then sets the players to it.
+     * Anything the players got wrong while showing the round is put right that way.
+     */
+    public void receiveSnapshot(Snapshot snapshot) {
+        if (snapshot == null) return; // another call took it first
+        this.snapshot = snapshot;
+        if (round == null) applySnapshot();
+    }
+
+    private void applySnapshot() {
+        if (snapshot == null) return;
+        if (snapshot.getRobots() == playersById.size()) {
+            snapshot.apply(playersById);
+            updatePlayers();
+        } else {
+            System.out.println("The server has " + snapshot.getRobots() + " robots, this game has "
+                    + playersById.size());
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Starts showing a round the server has played.
+     */
+    public void playRound(RoundRecord round) {
+        if (round.getRobots() != playersById.size()) {
+            throw new IllegalArgumentException("The round has " + round.getRobots() + " robots, the game has "
+                    + playersById.size());
+        }
+        this.round = round;
+        step = 0;
+        shownPhase = -1;
+        setToRound();
+    }
+
+    @Override
+    public void run() {
+        long time = System.nanoTime();
+        while (state != GameState.GAME_OVER) {
+            long now = System.nanoTime();
+            update((now - time) / 1e9f);
+            time = now;
+        }
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                endGame();
+            }
+        });
+    }
+
+    // To be used when the server deals a player their hand for the round
+    public void receiveHandFromServer(String name, ArrayList<ProgramCard> hand) {
+        for (Player player : board.players) {
+            if (player.getName().equals(name)) {
+                player.getHand().getCardsInHand().addAll(hand);
+                return;
+            }
+        }
+    }
+
+    // To be used when receiving multiple cards at the time
+    public void receiveCardsFromServer(String name, ArrayList<ProgramCard> allCards) {
+        for (Player player : board.players) {
+            if (player.getName().equals(name)) {
+                if (name.equals(game.playerName)) {
+                    // add to hand of this player:
+                    for (ProgramCard card : allCards) {
+                        player.getHand().getCardsInHand().add(card);
+                    }
+                } else {
+                    // place in register of other player:
+                    for (ProgramCard card : allCards) {
+                        player.getRegisters().placeCard(card);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void setToRound() {
+        for (Player player : players) {
+            if (player.getPlayerState() == PlayerState.READY) //true if submit button is pressed
+                player.setPlayerState(PlayerState.OPERATIONAL);
+        }
+        state = ROUND;
+    }
+}
@@ -0,0 +1,81 @@
+package inf112.roborally.game.board;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.player.Player;
+
+/**
+ * Draws the map of a {@link RulesBoard}. The map is loaded once, and the rules' {@link BoardGrid} is compiled from
+ * its layers.
+ */
+public abstract class TiledBoard extends RulesBoard<Player> {
+
+    private TiledMap map;
+    private OrthogonalTiledMapRenderer mapRenderer;
+
+    TiledMapTileLayer wallLayer;
+
+    @Override
+    public void createBoard(String mapPath) {
+        TmxMapLoader.Parameters parameters = new TmxMapLoader.Parameters();
+        parameters.flipY = true;
+        map = new TmxMapLoader().load(mapPath, parameters);
+        wallLayer = (TiledMapTileLayer) map.getLayers().get(BoardGrid.WALL_LAYER);
+        setGrid(compileGrid(map));
+
+        mapRenderer = new OrthogonalTiledMapRenderer(map, ((RoboRallyGame) Gdx.app.getApplicationListener()).batch);
+    }
+
+    /**
+     * Copies the tile layers of the loaded map into a {@link BoardGrid}, the same way
+     * {@link TmxBoardReader} reads them from the file.
+     */
+    static BoardGrid compileGrid(TiledMap map) {
+        TiledMapTileLayer floor = (TiledMapTileLayer) map.getLayers().get(BoardGrid.FLOOR_LAYER);
+        BoardGrid grid = new BoardGrid(floor.getWidth(), floor.getHeight());
+        for (TiledMapTileLayer layer : map.getLayers().getByType(TiledMapTileLayer.class)) {
+            compileLayer(grid, layer);
+        }
+        grid.finish();
+        return grid;
+    }
+
+    private static void compileLayer(BoardGrid grid, TiledMapTileLayer layer) {
+        for (int x = 0; x < layer.getWidth(); x++) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null) continue;
+
+                final MapProperties properties = cell.getTile().getProperties();
+                grid.compileCell(layer.getName(), x, y, new BoardGrid.TileProperties() {
+                    @Override
+                    public String get(String key) {
+                        Object value = properties.get(key);
+                        return value == null ? null : value.toString();
+                    }
+                }, cell.getFlipHorizontally() || cell.getFlipVertically());
+            }
+        }
+    }
+
+    public void render(OrthographicCamera camera) {
+        mapRenderer.setView(camera);
+        mapRenderer.render();
+    }
+
+    public void renderWalls() {
+        mapRenderer.renderTileLayer(wallLayer);
+    }
+
+    public void dispose() {
+        System.out.println("Disposing TiledBoard");
+        map.dispose();
+        mapRenderer.dispose();
+    }
+}
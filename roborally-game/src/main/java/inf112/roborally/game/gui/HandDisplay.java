@@ -32,7 +32,6 @@ public class HandDisplay {
 
         for (int i = 0; i < player.getHand().size(); i++) {
             ProgramCard card = player.getHand().getCard(i);
-            card.setUpSkin();
             final ProgramCardButton cardInHandButton = new ProgramCardButton(card);
             cardInHandButton.setTransform(true);
             cardInHandButton.setScale(scale);
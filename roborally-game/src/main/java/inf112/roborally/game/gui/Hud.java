@@ -9,7 +9,6 @@ import inf112.roborally.game.RoboRallyGame;
 import inf112.roborally.game.enums.GameState;
 import inf112.roborally.game.enums.PlayerState;
 import inf112.roborally.game.player.Player;
-import inf112.roborally.game.player.ProgramCard;
 import inf112.roborally.game.tools.AssMan;
 
 import java.util.List;
@@ -75,14 +74,7 @@ public class Hud {
                         player.setPlayerState(PlayerState.READY);
                         setButtonTouchable(false);
                         if(RoboRallyGame.multiPlayer) {
-                            StringBuilder allCards = new StringBuilder();
-                            allCards.append("CARD ");
-                            for (ProgramCard card : player.getRegisters().getAllCards()) {
-                                allCards.append(game.playerName + " " + card.toString());
-                                allCards.append("!");
-                            }
-                            allCards.deleteCharAt(allCards.length()-1); // Remove the last !
-                            game.client.sendMessage(allCards.toString());
+                            game.client.sendCards(player.getRegisters().getAllCards());
                         }
                     }
                 }
@@ -178,13 +170,11 @@ public class Hud {
         for (int i = 0; i < 4; i++) {
             for (Actor button : registerGui.getChildren()) {
                 if (button instanceof ProgramCardButton) {
-                    ((ProgramCardButton) button).dispose();
                     button.remove();
                 }
             }
             for (Actor button : handGui.getChildren()) {
                 if (button instanceof ProgramCardButton) {
-                    ((ProgramCardButton) button).dispose();
                     button.remove();
                 }
             }
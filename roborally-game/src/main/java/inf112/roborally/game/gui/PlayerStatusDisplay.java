@@ -3,7 +3,6 @@ package inf112.roborally.game.gui;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -72,19 +71,7 @@ public class PlayerStatusDisplay {
 
     public void dispose() {
         font.dispose();
-
-        for (Actor card : cards.getChildren()) {
-            if (card instanceof ProgramCardButton) {
-                ((ProgramCardButton) card).dispose();
-            }
-        }
         cards.clear();
-
-        for (Actor cards : tab.getChildren()) {
-            if (cards instanceof ProgramCardButton) {
-                ((ProgramCardButton) cards).dispose();
-            }
-        }
         tab.clear();
     }
 
@@ -156,7 +143,6 @@ public class PlayerStatusDisplay {
             if (!player.isOperational() || player.isGameOver()) return;
 
             ProgramCard card = player.getRegisters().getCard(phase);
-            card.setUpSkin();
             ProgramCardButton but = new ProgramCardButton(card);
             float k = .3f;
             but.setTransform(true);
@@ -0,0 +1,52 @@
+package inf112.roborally.game.gui;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.ImageTextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.tools.AssMan;
+
+import java.util.HashMap;
+
+/**
+ * A visual representation of the Program Card.
+ * Shows which type it is and its priority.
+ */
+public class ProgramCardButton extends ImageTextButton {
+    /**
+     * The cards themselves do not know how they look. There are only seven pictures, so every button
+     * showing the same picture shares one style.
+     */
+    private static final HashMap<String, ImageTextButtonStyle> styles = new HashMap<>();
+    private static TextureAtlas stylesAtlas;
+
+    private ProgramCard card;
+
+    ProgramCardButton(ProgramCard card) {
+        super("", styleFor(card));
+        this.card = card;
+        Label label = getLabel();
+        label.setText(card.getPriority() + "");
+        label.setFontScale(2.7f);
+        setLabel(label);
+        getCell(label).padRight(160).padBottom(250);
+    }
+
+    private static ImageTextButtonStyle styleFor(ProgramCard card) {
+        TextureAtlas atlas = AssMan.manager.get(AssMan.PROGRAM_CARD_ATLAS);
+        if (atlas != stylesAtlas) { // the assets were loaded again, e.g. for a new game
+            styles.clear();
+            stylesAtlas = atlas;
+        }
+
+        ImageTextButtonStyle style = styles.get(card.identify());
+        if (style == null) {
+            style = new ImageTextButtonStyle();
+            style.font = AssMan.manager.get(AssMan.FONT_GROTESKIA);
+            style.up = new TextureRegionDrawable(atlas.findRegion(card.identify()));
+            styles.put(card.identify(), style);
+        }
+        return style;
+    }
+}
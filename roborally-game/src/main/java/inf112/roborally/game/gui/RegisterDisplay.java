@@ -173,7 +173,6 @@ public class RegisterDisplay {
         for (int i = 0; i < ProgramRegisters.NUMBER_OF_REGISTERS; i++) {
             ProgramCard card = player.getRegisters().getCard(i);
             if (card != null) {
-                card.setUpSkin();
                 final ProgramCardButton cardInRegisterButton = new ProgramCardButton(card);
                 cardInRegisterButton.setTransform(true);
                 cardInRegisterButton.setScale(scale * 0.8f);
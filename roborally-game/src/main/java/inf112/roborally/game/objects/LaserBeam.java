@@ -0,0 +1,47 @@
+package inf112.roborally.game.objects;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import inf112.roborally.game.Main;
+import inf112.roborally.game.animations.LaserAnimation;
+import inf112.roborally.game.board.Board;
+import inf112.roborally.game.board.BoardGrid;
+import inf112.roborally.game.enums.Direction;
+
+/**
+ * Draws the beam of a {@link BoardLaser}. Firing is done by the laser itself.
+ */
+public class LaserBeam extends LaserAnimation {
+    private Board board;
+    private Position position;
+    private Direction direction;
+
+    public LaserBeam(BoardLaser laser, Board board) {
+        this.board = board;
+        this.direction = laser.getDirection();
+        position = laser.position;
+        sprite = new Sprite();
+        sprite.setBounds(0, 0, Main.PIXELS_PER_TILE, Main.PIXELS_PER_TILE);
+        sprite.setOriginCenter();
+        sprite.setRotation(board.getGrid().getLaserDirection(position.getX(), position.getY()).getRotationDegree());
+    }
+
+    public void draw(SpriteBatch batch) {
+        sprite.setRegion(getRegion());
+        int beamLength = beamLength();
+        for (int step = 0; step < beamLength; step++) {
+            sprite.setPosition((position.getX() + BoardGrid.dx(direction) * step) * Main.PIXELS_PER_TILE,
+                    (position.getY() + BoardGrid.dy(direction) * step) * Main.PIXELS_PER_TILE);
+            sprite.draw(batch);
+        }
+    }
+
+    /**
+     * @return the number of cells the beam covers, stopping in front of the first robot.
+     */
+    private int beamLength() {
+        int steps = board.stepsToRobot(position.getX(), position.getY(), direction, 0);
+        if (steps == -1) return board.getGrid().getRayLength(position.getX(), position.getY(), direction) + 1;
+        return steps;
+    }
+}
@@ -0,0 +1,95 @@
+package inf112.roborally.game.player;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import inf112.roborally.game.Main;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.board.Board;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.server.Protocol;
+import inf112.roborally.game.tools.AssMan;
+
+import java.util.ArrayList;
+
+/**
+ * A {@link Robot} with a sprite. The rules live in {@link Robot}, this class only adds what is needed to draw it.
+ */
+public class Player extends Robot {
+    private Sprite sprite;
+    private ArrayList<TextureRegion> regions;
+
+    private Texture skinTexture;
+    private RoboRallyGame game;
+
+    public Player(String name, Texture skin, Direction direction, Board board, RoboRallyGame game) {
+        super(name, direction, board);
+        this.game = game;
+        makeSprite(skin);
+        loadVisualRepresentation();
+        skinTexture = AssMan.getPlayerSkins()[0];
+        updateSprite();
+    }
+
+    /**
+     * FOR TESTING ONLY
+     */
+    public Player(int x, int y, int nFlags) {
+        super(x, y, nFlags);
+    }
+
+    private void makeSprite(Texture skin) {
+        sprite = new Sprite(skin);
+        regions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            regions.add(new TextureRegion(getSprite().getTexture(), 32 * 8 * i, 0, 32 * 8, 48 * 8));
+        }
+        sprite.setRegion(regions.get(0));
+    }
+
+    private void loadVisualRepresentation() {
+        sprite.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        sprite.setSize(Main.PIXELS_PER_TILE, Main.PIXELS_PER_TILE);
+        sprite.setOriginCenter();
+
+        updateSprite();
+    }
+
+    public void updateSprite() {
+        if (sprite != null) {
+            sprite.setRegion(regions.get(getDirection().toInt()));
+            sprite.setPosition(getX() * Main.PIXELS_PER_TILE, getY() * Main.PIXELS_PER_TILE + 5);
+        }
+    }
+
+    public void draw(SpriteBatch batch) {
+        sprite.draw(batch);
+    }
+
+    @Override
+    public void powerDown() {
+        if (!wantsToPowerDown || !isOperational()) return;
+
+        super.powerDown();
+        if (RoboRallyGame.multiPlayer) {
+            game.client.sendMessage(Protocol.POWER_DOWN, game.client.getPlayerId(getName()));
+        }
+    }
+
+    public void setSkinTexture(Texture skinTexture) {
+        this.skinTexture = skinTexture;
+    }
+
+    public Sprite getSprite() {
+        return sprite;
+    }
+
+    public void dispose() {
+        sprite.getTexture().dispose();
+    }
+
+    public TextureRegion getFrontRegion() {
+        return new TextureRegion(getSprite().getTexture(), 32 * 8 * 2, 0, 32 * 8, 48 * 8);
+    }
+}
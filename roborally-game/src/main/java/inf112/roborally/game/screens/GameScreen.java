@@ -12,6 +12,7 @@ import inf112.roborally.game.board.Board;
 import inf112.roborally.game.board.BoardLogic;
 import inf112.roborally.game.board.GameLogic;
 import inf112.roborally.game.board.MultiplayerLogic;
+import inf112.roborally.game.enums.GameSpeed;
 import inf112.roborally.game.enums.Rotate;
 import inf112.roborally.game.gui.Background;
 import inf112.roborally.game.gui.Hud;
@@ -77,7 +78,7 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        update();
+        update(delta);
         handleInput();
         float r = 10 / 255f;
         float g = 10 / 255f;
@@ -114,6 +115,13 @@ public class GameScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             game.setScreen(game.settingsScreen);
         }
+        // Game speed, only when playing alone since everyone has to see the same round online
+        if (gameLogic != null) {
+            if (Gdx.input.isKeyJustPressed(Input.Keys.F1)) gameLogic.setGameSpeed(GameSpeed.NORMAL);
+            else if (Gdx.input.isKeyJustPressed(Input.Keys.F2)) gameLogic.setGameSpeed(GameSpeed.DOUBLE);
+            else if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) gameLogic.setGameSpeed(GameSpeed.FAST);
+            else if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) gameLogic.setGameSpeed(GameSpeed.INSTANT);
+        }
         // if we are playing a normal game, return here
         if (!game.testing) return;
 
@@ -141,14 +149,14 @@ public class GameScreen implements Screen {
         }
     }
 
-    private void update() {
+    private void update(float delta) {
         game.cameraListener.updateZoom();
         background.update(game.dynamicCamera);
         if (gameLogic != null) {
-            gameLogic.update();
+            gameLogic.update(delta);
         }
         if (multiplayerLogic != null) {
-            multiplayerLogic.update();
+            multiplayerLogic.update(delta);
         }
     }
 
@@ -160,7 +168,6 @@ public class GameScreen implements Screen {
         board.dispose();
         for (Player player : board.getPlayers()) {
             player.getSprite().getTexture().dispose();
-            player.getBackup().getSprite().getTexture().dispose();
         }
 
         for (Animation animation : animations) {
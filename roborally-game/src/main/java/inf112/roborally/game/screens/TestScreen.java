@@ -7,19 +7,17 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import inf112.roborally.game.RoboRallyGame;
 import inf112.roborally.game.enums.Direction;
-import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramCardDeck;
 import inf112.roborally.game.gui.Hud;
 import inf112.roborally.game.player.Player;
 import inf112.roborally.game.tools.AssMan;
 
-import java.util.Stack;
-
 public class TestScreen implements Screen {
     private final RoboRallyGame game;
     private Player player;
     private Sprite background;
     private Hud hud;
-    private Stack<ProgramCard> stack;
+    private ProgramCardDeck deck;
 
 
     public TestScreen(RoboRallyGame game) {
@@ -28,9 +26,9 @@ public class TestScreen implements Screen {
         background = new Sprite(AssMan.manager.get(AssMan.TEST_BACKGROUND));
 
         player = new Player("player", AssMan.getPlayerSkins()[0], Direction.SOUTH, null, null);
-        stack = ProgramCard.makeProgramCardDeck();
+        deck = new ProgramCardDeck(game.random.split());
         for (int i = 0; i < player.getCardLimit(); i++) {
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
         }
 
         hud = new Hud(player, game);
@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.utils.Align;
 import inf112.roborally.game.RoboRallyGame;
 import inf112.roborally.game.screens.InputFieldScreen;
+import inf112.roborally.game.server.Protocol;
 import inf112.roborally.game.tools.AssMan;
 
 import java.net.InetAddress;
@@ -63,16 +64,16 @@ public class HostServerScreen extends InputFieldScreen {
         }
         int id = 0;
         game.multiPlayer = true;
-        game.client.sendMessage("SET_NUMBER_OF_PLAYERS " + game.playerNames.size());
-        game.client.sendMessage("MULTI " + "True");
+        game.client.sendMessage(Protocol.NUMBER_OF_PLAYERS, game.playerNames.size());
+        game.client.sendMessage(Protocol.MULTI);
         System.out.println("[SERVER] Connected players " + game.playerNames);
-        game.client.sendMessage("LIST " + game.playerNames.size());
+        game.client.sendMessage(Protocol.LIST, game.playerNames.size());
         for (String s : game.playerNames) {
-            game.client.sendMessage("START " + s + " " + id);
+            game.client.sendStart(id, s);
             id++;
         }
         System.out.println(game.playerName + " wants to start the game.");
-        game.client.sendMessage("SET_MAP ");
+        game.client.sendMessage(Protocol.SET_MAP);
 
     }
 
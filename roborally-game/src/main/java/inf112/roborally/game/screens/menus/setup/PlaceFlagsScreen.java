@@ -18,7 +18,6 @@ import inf112.roborally.game.objects.Position;
 import inf112.roborally.game.screens.BasicScreen;
 import inf112.roborally.game.tools.AssMan;
 import inf112.roborally.game.tools.ButtonFactory;
-import inf112.roborally.game.tools.TiledTools;
 
 import java.util.ArrayList;
 
@@ -171,8 +170,7 @@ public class PlaceFlagsScreen extends BasicScreen {
 
     // Check if the clicked position is not either a hole or a previously clicked position
     private boolean checkIfLegalPosition(Position clickedPos) {
-        if (!TiledTools.cellContainsKey(game.board.getFloorLayer().getCell(
-                clickedPos.getX(), clickedPos.getY()), "Floor")){
+        if (!game.board.getGrid().isFloor(clickedPos.getX(), clickedPos.getY())) {
             return false;
         }
         for (Position pos : flagPositions) {
@@ -219,6 +217,7 @@ public class PlaceFlagsScreen extends BasicScreen {
         for (Position pos : flagPositions) {
             game.board.getFlags().add(new Flag(pos.getX(), pos.getY(), flagNumber++));
         }
+        game.board.updateFlagDistances();
         game.createCustomGameScreen();
         game.setScreen(game.gameScreen);
         dispose();
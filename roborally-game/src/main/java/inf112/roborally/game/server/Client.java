@@ -0,0 +1,150 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Player;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Client implements Runnable{
+
+    private final String host;
+    private final int port;
+    private RoboRallyGame game;
+    private ArrayList<ProgramCard> chosenCards;
+    private String name;
+    private List<Player> playersConnected;
+    private int playerId = -1;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    Channel channel;
+
+    public Client(String host, int port, RoboRallyGame game, String name) {
+        this.host = host;
+        this.port = port;
+        this.game = game;
+        this.name = name;
+    }
+
+    @Override
+    public void run() {
+        EventLoopGroup group = new NioEventLoopGroup();
+
+            try{
+            Bootstrap bootstrap = new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .handler(new ClientInit(game));
+                channel = null;
+
+            try {
+                channel = bootstrap.connect(host, port).sync().channel();
+            }
+            catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+            ByteBuf handshake = Protocol.message(channel.alloc(), Protocol.HANDSHAKE);
+            handshake.writeByte(Protocol.VERSION);
+            Protocol.writeName(handshake, name);
+            channel.writeAndFlush(handshake);
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+
+
+            while (true) {
+
+            }
+        }
+        finally {
+            group.shutdownGracefully();
+        }
+    }
+    /**
+     * Sends a message without fields, see {@link Protocol} for the opcodes.
+     */
+    public void sendMessage(byte opcode) {
+        channel.writeAndFlush(Protocol.message(channel.alloc(), opcode));
+    }
+
+    /**
+     * Sends a message with one int field, a player id for most opcodes.
+     */
+    public void sendMessage(byte opcode, int value) {
+        channel.writeAndFlush(Protocol.message(channel.alloc(), opcode, value));
+    }
+
+    public void sendStart(int id, String name) {
+        ByteBuf out = Protocol.message(channel.alloc(), Protocol.START, id);
+        Protocol.writeName(out, name);
+        channel.writeAndFlush(out);
+    }
+
+    public void requestCards(int cardLimit) {
+        ByteBuf out = Protocol.message(channel.alloc(), Protocol.REQUEST_CARDS, playerId);
+        out.writeByte(cardLimit);
+        channel.writeAndFlush(out);
+    }
+
+    /**
+     * Sends the program this player has chosen.
+     */
+    public void sendCards(List<ProgramCard> cards) {
+        ByteBuf out = Protocol.message(channel.alloc(), Protocol.CARDS, playerId);
+        out.writeByte(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            Protocol.writeCard(out, cards.get(i));
+        }
+        channel.writeAndFlush(out);
+    }
+
+    /**
+     * Keeps the newest snapshot until the game screen takes it. A player that joins a game in progress gets one
+     * before its game screen is made, and catches up with it as soon as the screen is there.
+     */
+    void keepSnapshot(Snapshot snapshot) {
+        this.snapshot.set(snapshot);
+    }
+
+    /**
+     * @return the newest snapshot from the server that has not been taken yet, null if there is none.
+     */
+    public Snapshot takeSnapshot() {
+        return snapshot.getAndSet(null);
+    }
+
+    /**
+     * @return the id the server gave this player, -1 before the handshake.
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    void setPlayerId(int playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * @return the id of the player with the name, -1 if there is no such player.
+     */
+    public int getPlayerId(String name) {
+        return game.playerNames.indexOf(name);
+    }
+
+    public Channel getChannel(){
+        return this.channel;
+    }
+
+    public List<Player> getPlayers(){
+        return playersConnected;
+    }
+}
@@ -0,0 +1,199 @@
+package inf112.roborally.game.server;
+
+import com.badlogic.gdx.Gdx;
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.board.MultiplayerLogic;
+import inf112.roborally.game.board.RoundRecord;
+import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.player.Player;
+import inf112.roborally.game.player.ProgramCard;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+
+import java.util.ArrayList;
+
+/**
+ * Reads the {@link Protocol} frames the server sends. Players come as ids and are looked up in
+ * {@link RoboRallyGame#playerNames}. Snapshots come whole from the {@link SnapshotDecoder}.
+ */
+public class ClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private final RoboRallyGame game;
+
+    public ClientHandler(RoboRallyGame game) {
+        this.game = game;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof Snapshot) receiveSnapshot((Snapshot) msg);
+        else super.channelRead(ctx, msg);
+    }
+
+    /**
+     * Keeps the snapshot in the client, and hands it to the game if there is one. Otherwise the game takes it
+     * when it starts.
+     */
+    private void receiveSnapshot(Snapshot snapshot) {
+        game.client.keepSnapshot(snapshot);
+        if (game.gameScreen == null || !(game.gameScreen.getBoardLogic() instanceof MultiplayerLogic)) {
+            System.out.println("The server has a game with " + snapshot.getRobots() + " robots in progress");
+            return;
+        }
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                ((MultiplayerLogic) game.gameScreen.getBoardLogic()).receiveSnapshot(game.client.takeSnapshot());
+            }
+        });
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext channelHandlerContext, ByteBuf in) throws Exception {
+        byte opcode = in.readByte();
+
+        switch (opcode) {
+            case Protocol.HANDSHAKE:
+                in.readByte(); // version, the server only answers clients that speak its own
+                game.client.setPlayerId(in.readInt());
+                game.connectedToServer = true;
+                System.out.println("CLIENT HANDSHAKE");
+                break;
+            case Protocol.REJECTED:
+                System.out.printf("The server speaks protocol version %d, this game speaks version %d%n",
+                        in.readByte(), Protocol.VERSION);
+                break;
+            case Protocol.CONNECTED:
+                System.out.println(Protocol.readName(in) + " has connected!");
+                break;
+            case Protocol.LIST:
+                int size = in.readInt();
+                while (game.playerNames.size() < size) {
+                    game.playerNames.add("temp");
+                }
+                break;
+            case Protocol.START: {
+                int id = in.readInt();
+                String name = Protocol.readName(in);
+                if (!game.playerNames.contains(name)) {
+                    game.playerNames.set(id, name);
+
+                }
+                game.playersInGame = game.playerNames.size();
+
+                break;
+            }
+            case Protocol.SET_MAP:{
+                Gdx.app.postRunnable(new Runnable() {
+                    @Override
+                    public void run() {
+                        System.out.printf("Number of players = %d%n", game.numberOfChosenPlayers);
+                        game.createDefaultGameScreenForMultiplayer();
+                        game.setScreen(game.gameScreen);
+                    }
+                });
+                break;
+            }
+            case Protocol.CARDS: {
+                String name = nameOf(in.readInt());
+                ArrayList<ProgramCard> allCards = Protocol.readCards(in);
+                ((MultiplayerLogic)game.gameScreen.getBoardLogic()).receiveCardsFromServer(name, allCards);
+                break;
+            }
+            case Protocol.ROUND: {
+                final RoundRecord round = Protocol.readRound(in);
+                Gdx.app.postRunnable(new Runnable() {
+                    @Override
+                    public void run() {
+                        ((MultiplayerLogic)game.gameScreen.getBoardLogic()).playRound(round);
+                    }
+                });
+                break;
+            }
+            case Protocol.MULTI:
+                game.multiPlayer = true;
+                break;
+            case Protocol.DEAL:{
+                final String name = nameOf(in.readInt());
+                final ArrayList<ProgramCard> hand = Protocol.readCards(in);
+                Gdx.app.postRunnable(new Runnable() {
+                    @Override
+                    public void run() {
+                        ((MultiplayerLogic)game.gameScreen.getBoardLogic()).receiveHandFromServer(name, hand);
+                        if (name.equals(game.playerName)) {
+                            game.gameScreen.getHud().updateCardButtons();
+                        }
+                    }
+                });
+                break;
+            }
+            case Protocol.POWER_DOWN: {
+                String nameOfSender = nameOf(in.readInt());
+                for(Player player : game.getBoard().players) {
+                    if(player.getName().equals(nameOfSender) && player.getPlayerState().equals(PlayerState.OPERATIONAL) && !player.getName().equals(game.getBoard().getThisPlayer().getName())) {
+                        player.powerDown();
+                    }
+                }
+                break;
+            }
+            case Protocol.POWER_UP: {
+                String nameOfSender = nameOf(in.readInt());
+                for(Player player : game.getBoard().players) {
+                    if(player.getName().equals(nameOfSender) && player.getPlayerState().equals(PlayerState.POWERED_DOWN)&& !player.getName().equals(game.getBoard().getThisPlayer().getName())) {
+                        player.powerUp();
+                    }
+                }
+                break;
+            }
+            case Protocol.NUMBER_OF_PLAYERS: {
+                int numPlayers = in.readInt();
+                System.out.println("Number of players: " + numPlayers);
+                game.setNumberOfChosenPlayers(numPlayers);
+                break;
+            }
+            case Protocol.DIED: {
+                String name = nameOf(in.readInt());
+                System.out.println(name + " has died the game");
+                game.playersInGame--;
+                removePlayer(name);
+                break;
+            }
+            case Protocol.REMOVED: {
+                String name = nameOf(in.readInt());
+                System.out.println(name + " has left the game");
+                removePlayer(name);
+                break;
+            }
+            default:
+                System.out.println("Unknown message " + opcode);
+                break;
+
+        }
+    }
+
+    private String nameOf(int id) {
+        return game.playerNames.get(id);
+    }
+
+    private void removePlayer(String name) {
+        for (int i = 0; i < game.gameScreen.getBoard().players.size(); i++) {
+            if(game.gameScreen.getBoard().players.get(i).getName().equals(name)){
+                Player leaver = game.gameScreen.getBoard().players.get(i);
+                leaver.killPlayer();
+                game.gameScreen.getBoard().removePlayer(leaver);
+                break;
+            }
+        }
+    }
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        System.out.println("Host disconnected");
+        ctx.close();
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+}
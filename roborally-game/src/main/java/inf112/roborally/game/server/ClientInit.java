@@ -0,0 +1,24 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.RoboRallyGame;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+
+@SuppressWarnings("Duplicates")
+public class ClientInit extends ChannelInitializer<SocketChannel> {
+    private final RoboRallyGame game;
+
+    public ClientInit(RoboRallyGame game){
+        this.game = game;
+    }
+
+    @Override
+    protected void initChannel(SocketChannel arg0) throws Exception {
+        ChannelPipeline pipeline = arg0.pipeline();
+
+        Protocol.addFraming(pipeline);
+        pipeline.addLast("snapshots", new SnapshotDecoder());
+        pipeline.addLast("handler", new ClientHandler(game));
+    }
+}
@@ -0,0 +1,195 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.board.RoundRecord;
+import inf112.roborally.game.board.StateArena;
+import inf112.roborally.game.player.ProgramCard;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.util.CharsetUtil;
+
+import java.util.ArrayList;
+
+/**
+ * The messages the server and the clients send each other. Every message is a frame of its own:
+ * a two byte length, a one byte opcode and then the fields of that opcode. Players are sent as their int index
+ * in {@link inf112.roborally.game.RoboRallyGame#playerNames}, cards as their int {@link ProgramCard#getId() id}
+ * and names as UTF-8.
+ * <p>
+ * Messages are written straight into pooled buffers from the channel's allocator and read straight out of
+ * the frames, so sending a card makes no strings. Bump {@link #VERSION} whenever a message changes,
+ * the server turns away clients that speak another version.
+ */
+public class Protocol {
+    public static final byte VERSION = 6;
+    public static final int MAX_FRAME_LENGTH = 0xFFFF;
+    private static final int LENGTH_FIELD = 2;
+
+    //                                                    fields
+    public static final byte HANDSHAKE = 1;            // client: version, name. server: version, player id
+    public static final byte REJECTED = 2;             // version of the server
+    public static final byte CONNECTED = 3;            // name
+    public static final byte NUMBER_OF_PLAYERS = 4;    // int number of players
+    public static final byte MULTI = 5;
+    public static final byte LIST = 6;                 // int number of names
+    public static final byte START = 7;                // player id, name
+    public static final byte SET_MAP = 8;
+    public static final byte REQUEST_CARDS = 9;        // player id, byte card limit
+    public static final byte DEAL = 10;                // player id, byte number of cards, card ids
+    public static final byte CARDS = 11;               // player id, byte number of cards, card ids
+    public static final byte POWER_DOWN = 12;          // player id
+    public static final byte POWER_UP = 13;            // player id
+    public static final byte ROUND = 14;               // the round the server played, see writeRound
+    public static final byte DIED = 15;                // player id
+    public static final byte REMOVED = 16;             // player id
+    public static final byte SNAPSHOT = 17;            // see SnapshotEncoder
+    public static final byte SNAPSHOT_ACK = 18;        // int sequence of the snapshot
+
+    private Protocol() {
+    }
+
+    /**
+     * Adds the framing to a new channel, the handlers after it get one whole message per buffer.
+     */
+    public static void addFraming(ChannelPipeline pipeline) {
+        pipeline.addLast("framer",
+                new LengthFieldBasedFrameDecoder(MAX_FRAME_LENGTH, 0, LENGTH_FIELD, 0, LENGTH_FIELD));
+        pipeline.addLast("prepender", new LengthFieldPrepender(LENGTH_FIELD));
+    }
+
+    /**
+     * @return a pooled buffer with the opcode written, ready for the fields.
+     */
+    public static ByteBuf message(ByteBufAllocator alloc, byte opcode) {
+        ByteBuf out = alloc.buffer();
+        out.writeByte(opcode);
+        return out;
+    }
+
+    /**
+     * @return a message with a single int field, which is a player id for most opcodes.
+     */
+    public static ByteBuf message(ByteBufAllocator alloc, byte opcode, int value) {
+        ByteBuf out = alloc.buffer(5);
+        out.writeByte(opcode);
+        out.writeInt(value);
+        return out;
+    }
+
+    public static void writeName(ByteBuf out, String name) {
+        out.writeShort(ByteBufUtil.utf8Bytes(name));
+        ByteBufUtil.writeUtf8(out, name);
+    }
+
+    public static String readName(ByteBuf in) {
+        int length = in.readUnsignedShort();
+        String name = in.toString(in.readerIndex(), length, CharsetUtil.UTF_8);
+        in.skipBytes(length);
+        return name;
+    }
+
+    /**
+     * Writes the int in as few bytes as it needs, seven bits at a time. Small negative numbers are small too.
+     */
+    public static void writeVarInt(ByteBuf out, int value) {
+        int zigzag = value << 1 ^ value >> 31;
+        while ((zigzag & ~0x7F) != 0) {
+            out.writeByte(zigzag & 0x7F | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    public static int readVarInt(ByteBuf in) {
+        int zigzag = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (b & 0x7F) << shift;
+            if (b >= 0) break;
+        }
+        return zigzag >>> 1 ^ -(zigzag & 1);
+    }
+
+    public static void writeCard(ByteBuf out, ProgramCard card) {
+        int id = card.getId();
+        if (id < 0) throw new IllegalArgumentException("Only cards from the deck can be sent: " + card);
+        out.writeInt(id);
+    }
+
+    public static ProgramCard readCard(ByteBuf in) {
+        int id = in.readInt();
+        if (id < 0 || id >= ProgramCard.DECK_SIZE) throw new IllegalArgumentException("No card has the id " + id);
+        return ProgramCard.fromId(id);
+    }
+
+    /**
+     * Reads the number of cards and then the cards, as in {@link #DEAL} and {@link #CARDS}.
+     */
+    public static ArrayList<ProgramCard> readCards(ByteBuf in) {
+        int count = in.readUnsignedByte();
+        ArrayList<ProgramCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(readCard(in));
+        }
+        return cards;
+    }
+
+    /**
+     * Writes the number of robots and steps, then for every step its phase, its actor and the fields of the robots
+     * up to the registers. Then the number of events and the four fields of every event. Everything is a
+     * {@link #writeVarInt(ByteBuf, int) var int}, so big boards and many robots fit as well as small ones.
+     * The players already know the cards, so the registers are left out.
+     */
+    public static void writeRound(ByteBuf out, RoundRecord round) {
+        int robots = round.getRobots();
+        StateArena states = round.getStates();
+        writeVarInt(out, robots);
+        writeVarInt(out, round.getSteps());
+        for (int step = 0; step < round.getSteps(); step++) {
+            writeVarInt(out, round.getPhase(step));
+            writeVarInt(out, round.getActor(step));
+            for (int field = 0; field < StateArena.REGISTER; field++) {
+                for (int robot = 0; robot < robots; robot++) {
+                    writeVarInt(out, states.get(step, field, robot));
+                }
+            }
+        }
+        writeVarInt(out, round.getEventCount());
+        for (int i = 0; i < round.getEventCount(); i++) {
+            writeVarInt(out, round.getEventStep(i));
+            writeVarInt(out, round.getEventType(i));
+            writeVarInt(out, round.getEventRobot(i));
+            writeVarInt(out, round.getEventOther(i));
+        }
+    }
+
+    /**
+     * @return the round, with empty registers in every state.
+     * @see #writeRound(ByteBuf, RoundRecord)
+     */
+    public static RoundRecord readRound(ByteBuf in) {
+        int robots = readVarInt(in);
+        int steps = readVarInt(in);
+        if (robots < 0 || steps < 0 || steps > RoundRecord.maxSteps(robots)) {
+            throw new IllegalArgumentException("No round has " + steps + " steps for " + robots + " robots");
+        }
+        RoundRecord round = new RoundRecord(robots, steps);
+        StateArena states = round.getStates();
+        for (int i = 0; i < steps; i++) {
+            int step = round.addStep(readVarInt(in), readVarInt(in));
+            for (int field = 0; field < StateArena.REGISTER; field++) {
+                for (int robot = 0; robot < robots; robot++) {
+                    states.set(step, field, robot, readVarInt(in));
+                }
+            }
+        }
+        int events = readVarInt(in);
+        for (int i = 0; i < events; i++) {
+            round.addEvent(readVarInt(in), readVarInt(in), readVarInt(in), readVarInt(in));
+        }
+        return round;
+    }
+}
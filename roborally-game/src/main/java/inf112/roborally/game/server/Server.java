@@ -11,6 +11,7 @@ public class Server implements Runnable{
 
     private final int port;
     private final RoboRallyGame game;
+    private final ServerGame serverGame;
     EventLoopGroup bossGroup;
     EventLoopGroup workerGroup;
     ServerBootstrap bootstrap;
@@ -18,6 +19,7 @@ public class Server implements Runnable{
     public Server(int port, RoboRallyGame game) {
         this.port = port;
         this.game = game;
+        serverGame = new ServerGame(game.random.split());
     }
 
     @Override
@@ -30,7 +32,7 @@ public class Server implements Runnable{
              bootstrap = new ServerBootstrap()
                     .group(bossGroup, workerGroup)
                     .channel(NioServerSocketChannel.class)
-                    .childHandler(new ServerInit(game)).childOption(ChannelOption.AUTO_READ, true);
+                    .childHandler(new ServerInit(game, serverGame)).childOption(ChannelOption.AUTO_READ, true);
 
             try {
                 bootstrap.bind(port).sync().channel().closeFuture().sync();
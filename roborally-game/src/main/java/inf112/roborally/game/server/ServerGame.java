@@ -0,0 +1,144 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.board.DefaultBoard;
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramCardDeck;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.simulation.RoundResolver;
+import inf112.roborally.game.tools.GameRandom;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The game the server plays: the deck, the server's own robots and how many players are ready.
+ * <p>
+ * There is one for the whole server, every {@link ServerHandler} gets the same one. The handlers run on the network
+ * threads, so everything here is synchronized.
+ */
+public class ServerGame {
+    private final ProgramCardDeck deck;
+    private RoundResolver round; // null until the host starts the game
+    private int playersInGame;
+    private int readyPlayers;
+
+    /**
+     * @param random a stream of its own for the deck
+     */
+    public ServerGame(GameRandom random) {
+        deck = new ProgramCardDeck(random);
+    }
+
+    public synchronized void join() {
+        playersInGame++;
+    }
+
+    /**
+     * Removes the player's robot if the game has started.
+     *
+     * @return the messages to send to everyone, the round if everyone left was already ready
+     */
+    public synchronized List<Object> leave(int id) {
+        playersInGame--;
+        if (round != null && id < round.getRobots().size()) round.removePlayer(id);
+        return playRoundIfReady();
+    }
+
+    /**
+     * Sets up the server's board the same way the players set up theirs, the default board with a robot
+     * for every player.
+     */
+    public synchronized void start(List<String> names) {
+        final RulesBoard<Robot> board = new RulesBoard<>();
+        List<Robot> robots = DefaultBoard.setUpMultiplayer(board, names, new DefaultBoard.RobotMaker<Robot>() {
+            @Override
+            public Robot make(int id, String name) {
+                return new Robot(name, Direction.NORTH, board);
+            }
+        });
+        board.placePlayers();
+        start(new RoundResolver(board, robots));
+    }
+
+    synchronized void start(RoundResolver round) {
+        this.round = round;
+    }
+
+    /**
+     * Puts the cards the player had last round back into the deck and deals a new hand. Only the cards of the
+     * hand are accepted in the player's program.
+     */
+    public synchronized List<ProgramCard> deal(int id, int cardLimit) {
+        boolean playing = round != null && id < round.getRobots().size();
+        if (playing) {
+            List<ProgramCard> returned = round.takeReturnedCards(id);
+            for (int i = 0; i < returned.size(); i++) {
+                deck.returnCard(returned.get(i));
+            }
+        }
+        List<ProgramCard> hand = new ArrayList<>(cardLimit);
+        for (int i = 0; i < cardLimit; i++) {
+            hand.add(deck.deal());
+        }
+        if (playing) round.deal(id, hand);
+        return hand;
+    }
+
+    /**
+     * @return the cards in the robot's registers once the program is set, null if the game has not started.
+     */
+    public synchronized List<ProgramCard> setProgram(int id, List<ProgramCard> cards) {
+        if (round == null || id >= round.getRobots().size()) return null;
+        if (!round.setProgram(id, cards)) {
+            System.out.printf("[SERVER] Turned down a program with cards player %d was not dealt%n", id);
+        }
+        List<ProgramCard> program = new ArrayList<>();
+        ArrayList<ProgramCard> registers = round.getRobots().get(id).getRegisters().getAllCards();
+        for (int i = 0; i < registers.size(); i++) {
+            if (registers.get(i) != null) program.add(registers.get(i));
+        }
+        return program;
+    }
+
+    public synchronized void powerDown(int id) {
+        if (round != null) round.powerDown(id);
+    }
+
+    /**
+     * Counts one more player as ready.
+     *
+     * @return the messages to send to everyone, the round and a snapshot if this was the last player
+     */
+    public synchronized List<Object> ready() {
+        readyPlayers++;
+        System.out.println("One more player is ready");
+        return playRoundIfReady();
+    }
+
+    private List<Object> playRoundIfReady() {
+        List<Object> messages = new ArrayList<>(2);
+        System.out.printf("%d out of %d players are ready%n", readyPlayers, playersInGame);
+        if (readyPlayers < playersInGame) return messages;
+
+        System.out.println("ALL PLAYERS ARE READY");
+        readyPlayers = 0;
+        if (round != null) {
+            ByteBuf out = Protocol.message(ByteBufAllocator.DEFAULT, Protocol.ROUND);
+            Protocol.writeRound(out, round.playRound());
+            messages.add(out);
+            messages.add(Snapshot.capture(round.getRobots(), deck));
+        }
+        return messages;
+    }
+
+    /**
+     * @return the robots as they are now, null if the game has not started.
+     */
+    public synchronized Snapshot snapshot() {
+        return round == null ? null : Snapshot.capture(round.getRobots(), deck);
+    }
+}
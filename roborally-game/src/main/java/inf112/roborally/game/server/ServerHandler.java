@@ -0,0 +1,180 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.player.ProgramCard;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.ChannelMatchers;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reads the {@link Protocol} frames from one client. Messages the server does not act on are sent on to every client
+ * as they came in.
+ * <p>
+ * What a read sends is only written to the channels, they are flushed once when the read is complete.
+ * <p>
+ * The server plays the rounds itself in a {@link ServerGame} that all handlers share. When the host starts the game
+ * the server sets up its own board, puts the programs the players send into its robots and, when everyone is ready,
+ * plays the round and sends the {@link Protocol#ROUND} to everyone to show. A {@link Snapshot} of the robots follows every round, and a player
+ * that connects to a game in progress gets one right away.
+ */
+@SuppressWarnings("Duplicates")
+public class ServerHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private final RoboRallyGame game;
+    private final ServerGame serverGame;
+    protected HashMap<Channel, Integer> connectedPlayers;
+    private boolean unflushed;
+
+    /**
+     * @param serverGame the game of the whole server, the same for every connection
+     */
+    public ServerHandler(RoboRallyGame game, ServerGame serverGame) {
+        this.game = game;
+        this.serverGame = serverGame;
+        connectedPlayers = new HashMap<>();
+    }
+
+    public static final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        channels.add(ctx.channel());
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        System.out.println("HandlerRemoved called");
+        Channel incoming = ctx.channel();
+        Integer id = connectedPlayers.get(incoming);
+        if (id != null) {
+            channels.writeAndFlush(Protocol.message(ctx.alloc(), Protocol.REMOVED, id),
+                    ChannelMatchers.isNot(incoming));
+            List<Object> messages = serverGame.leave(id);
+            for (int i = 0; i < messages.size(); i++) {
+                channels.write(messages.get(i));
+            }
+            channels.flush();
+        }
+        channels.remove(ctx.channel());
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        byte opcode = in.readByte();
+
+        switch (opcode) {
+            case Protocol.HANDSHAKE: {
+                byte version = in.readByte();
+                if (version != Protocol.VERSION) {
+                    System.out.printf("[SERVER] Turned away a client with protocol version %d%n", version);
+                    ByteBuf rejected = Protocol.message(ctx.alloc(), Protocol.REJECTED);
+                    rejected.writeByte(Protocol.VERSION);
+                    ctx.writeAndFlush(rejected).addListener(ChannelFutureListener.CLOSE);
+                    break;
+                }
+                String name = Protocol.readName(in);
+                System.out.println("[SERVER] " + name + " has connected!");
+                game.playerNames.add(name);
+                int id = game.playerNames.size() - 1;
+                connectedPlayers.put(ctx.channel(), id);
+                serverGame.join();
+                ByteBuf reply = Protocol.message(ctx.alloc(), Protocol.HANDSHAKE);
+                reply.writeByte(Protocol.VERSION);
+                reply.writeInt(id);
+                ctx.write(reply);
+                Snapshot snapshot = serverGame.snapshot();
+                if (snapshot != null) ctx.write(snapshot);
+
+                ByteBuf connected = Protocol.message(ctx.alloc(), Protocol.CONNECTED);
+                Protocol.writeName(connected, name);
+                broadcast(connected);
+                break;
+            }
+            case Protocol.REQUEST_CARDS: {
+                int id = in.readInt();
+                int cardLimit = in.readUnsignedByte();
+                List<ProgramCard> hand = serverGame.deal(id, cardLimit);
+                ByteBuf deal = Protocol.message(ctx.alloc(), Protocol.DEAL, id);
+                deal.writeByte(hand.size());
+                for (int i = 0; i < hand.size(); i++) {
+                    Protocol.writeCard(deal, hand.get(i));
+                }
+                broadcast(deal);
+                break;
+            }
+            case Protocol.CARDS: {
+                int id = in.readInt();
+                List<ProgramCard> program = serverGame.setProgram(id, Protocol.readCards(in));
+                if (program == null) {
+                    relay(in);
+                } else {
+                    // Everyone is shown the program the server will play, also when it turned the player's down
+                    ByteBuf cards = Protocol.message(ctx.alloc(), Protocol.CARDS, id);
+                    cards.writeByte(program.size());
+                    for (int i = 0; i < program.size(); i++) {
+                        Protocol.writeCard(cards, program.get(i));
+                    }
+                    broadcast(cards);
+                }
+                broadcastAll(serverGame.ready()); // Since a player has received his cards, set another player to ready
+                break;
+            }
+            case Protocol.POWER_DOWN:
+                serverGame.powerDown(in.readInt());
+                relay(in);
+                broadcastAll(serverGame.ready());
+                break;
+            case Protocol.SET_MAP:
+                serverGame.start(game.playerNames);
+                relay(in);
+                break;
+            default:
+                relay(in);
+                break;
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+        if (unflushed) {
+            channels.flush();
+            unflushed = false;
+        }
+    }
+
+    /**
+     * Writes the message to every client, it is flushed when the read is complete.
+     */
+    private void broadcast(Object message) {
+        channels.write(message);
+        unflushed = true;
+    }
+
+    /**
+     * Sends the whole message on to every client, the group takes its own reference to the frame.
+     */
+    private void relay(ByteBuf in) {
+        broadcast(in.readerIndex(0).retain());
+    }
+
+    private void broadcastAll(List<Object> messages) {
+        for (int i = 0; i < messages.size(); i++) {
+            broadcast(messages.get(i));
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        cause.printStackTrace();
+    }
+}
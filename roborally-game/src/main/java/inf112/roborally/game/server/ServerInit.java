@@ -4,25 +4,22 @@ import inf112.roborally.game.RoboRallyGame;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ObjectEncoder;
-import io.netty.handler.codec.string.StringDecoder;
-import io.netty.handler.codec.string.StringEncoder;
 
 @SuppressWarnings("Duplicates")
 public class ServerInit extends ChannelInitializer<SocketChannel> {
     private final RoboRallyGame game;
+    private final ServerGame serverGame;
 
-    public ServerInit(RoboRallyGame game) {
+    public ServerInit(RoboRallyGame game, ServerGame serverGame) {
         this.game = game;
+        this.serverGame = serverGame;
     }
 
     @Override
     protected void initChannel(SocketChannel arg0) throws Exception {
         ChannelPipeline pipeline = arg0.pipeline();
-        pipeline.addLast("decoder", new StringDecoder());
-        pipeline.addLast("encoder", new StringEncoder());
-        pipeline.addLast(new ServerHandler(game));
+        Protocol.addFraming(pipeline);
+        pipeline.addLast("snapshots", new SnapshotEncoder());
+        pipeline.addLast(new ServerHandler(game, serverGame));
     }
 }
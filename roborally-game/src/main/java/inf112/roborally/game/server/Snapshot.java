@@ -0,0 +1,158 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.board.StateArena;
+import inf112.roborally.game.player.ProgramCardDeck;
+import inf112.roborally.game.player.Robot;
+import io.netty.buffer.ByteBuf;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything about the robots of a game that can change: where they are, their damage, lives, flags, backups and
+ * registers. It is the same as one slot of a {@link StateArena}, along with how far the server has come in its
+ * {@link ProgramCardDeck}. The board and the flags never change, so they are not in it.
+ * <p>
+ * Snapshots are never changed after they are made, so one can be written to many channels.
+ */
+public class Snapshot {
+    private final int robots;
+    private final int[] fields;
+    private final int deckCursor;
+    private final int returnedCards;
+
+    /**
+     * @param fields the fields of every robot, laid out as in a slot of a {@link StateArena}
+     */
+    Snapshot(int robots, int[] fields, int deckCursor, int returnedCards) {
+        if (fields.length != robots * StateArena.FIELDS) {
+            throw new IllegalArgumentException(robots + " robots do not have " + fields.length + " fields");
+        }
+        this.robots = robots;
+        this.fields = fields;
+        this.deckCursor = deckCursor;
+        this.returnedCards = returnedCards;
+    }
+
+    /**
+     * @param robots the robots of the game, by player id
+     * @param deck   the deck the server deals from
+     */
+    public static Snapshot capture(List<? extends Robot> robots, ProgramCardDeck deck) {
+        return capture(robots, deck.getCursor(), deck.getReturnedCount());
+    }
+
+    /**
+     * Captures the robots only, for a game without a deck.
+     *
+     * @param robots the robots of the game, by player id
+     */
+    public static Snapshot capture(List<? extends Robot> robots) {
+        return capture(robots, 0, 0);
+    }
+
+    private static Snapshot capture(List<? extends Robot> robots, int deckCursor, int returnedCards) {
+        StateArena arena = new StateArena(robots.size(), 1);
+        for (int i = 0; i < robots.size(); i++) {
+            robots.get(i).exportState(arena, 0, i);
+        }
+        int[] fields = new int[robots.size() * StateArena.FIELDS];
+        for (int field = 0; field < StateArena.FIELDS; field++) {
+            for (int i = 0; i < robots.size(); i++) {
+                fields[field * robots.size() + i] = arena.get(0, field, i);
+            }
+        }
+        return new Snapshot(robots.size(), fields, deckCursor, returnedCards);
+    }
+
+    /**
+     * Sets the robots to the state in the snapshot.
+     */
+    public void apply(List<? extends Robot> robots) {
+        if (robots.size() != this.robots) {
+            throw new IllegalArgumentException("The snapshot has " + this.robots + " robots, not " + robots.size());
+        }
+        StateArena arena = new StateArena(robots.size(), 1);
+        for (int field = 0; field < StateArena.FIELDS; field++) {
+            for (int i = 0; i < robots.size(); i++) {
+                arena.set(0, field, i, fields[field * robots.size() + i]);
+            }
+        }
+        for (int i = 0; i < robots.size(); i++) {
+            robots.get(i).importState(arena, 0, i);
+        }
+    }
+
+    /**
+     * Writes the number of robots, the deck's cursor and returned count, a bit for every field that is not the same
+     * as in the base and then the fields that changed as {@link Protocol#writeVarInt(ByteBuf, int) var ints}.
+     * The deck changes every round, so it is always written.
+     *
+     * @param base the snapshot the reader has, null to write every field that is not 0
+     */
+    public void writeDelta(ByteBuf out, Snapshot base) {
+        if (base != null && base.robots != robots) base = null;
+        out.writeByte(robots);
+        Protocol.writeVarInt(out, deckCursor);
+        Protocol.writeVarInt(out, returnedCards);
+        for (int i = 0; i < fields.length; i += 8) {
+            int changed = 0;
+            for (int bit = 0; bit < 8 && i + bit < fields.length; bit++) {
+                if (fields[i + bit] != (base == null ? 0 : base.fields[i + bit])) changed |= 1 << bit;
+            }
+            out.writeByte(changed);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != (base == null ? 0 : base.fields[i])) Protocol.writeVarInt(out, fields[i]);
+        }
+    }
+
+    /**
+     * @param base the snapshot the writer used as base, null if it used none
+     * @see #writeDelta(ByteBuf, Snapshot)
+     */
+    public static Snapshot readDelta(ByteBuf in, Snapshot base) {
+        int robots = in.readUnsignedByte();
+        int deckCursor = Protocol.readVarInt(in);
+        int returnedCards = Protocol.readVarInt(in);
+        if (base != null && base.robots != robots) base = null;
+        int[] fields = base == null ? new int[robots * StateArena.FIELDS] : base.fields.clone();
+        int masks = in.readerIndex();
+        in.skipBytes((fields.length + 7) / 8);
+        for (int i = 0; i < fields.length; i++) {
+            if ((in.getByte(masks + i / 8) & 1 << i % 8) != 0) fields[i] = Protocol.readVarInt(in);
+        }
+        return new Snapshot(robots, fields, deckCursor, returnedCards);
+    }
+
+    public int getRobots() {
+        return robots;
+    }
+
+    /**
+     * @return the {@link ProgramCardDeck#getCursor() cursor} of the server's deck.
+     */
+    public int getDeckCursor() {
+        return deckCursor;
+    }
+
+    /**
+     * @return how many cards were waiting to be shuffled back into the server's deck.
+     */
+    public int getReturnedCards() {
+        return returnedCards;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Snapshot)) return false;
+        Snapshot snapshot = (Snapshot) other;
+        return deckCursor == snapshot.deckCursor && returnedCards == snapshot.returnedCards
+                && Arrays.equals(fields, snapshot.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * deckCursor + returnedCards) + Arrays.hashCode(fields);
+    }
+}
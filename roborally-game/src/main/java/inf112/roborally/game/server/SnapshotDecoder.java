@@ -0,0 +1,45 @@
+package inf112.roborally.game.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * The client's end of {@link SnapshotEncoder}. Turns {@link Protocol#SNAPSHOT} messages back into whole
+ * {@link Snapshot}s for the handlers after it, and acknowledges every snapshot it has read so the server can send
+ * the next one as the changes since this one.
+ */
+public class SnapshotDecoder extends ChannelInboundHandlerAdapter {
+    private final Snapshot[] received = new Snapshot[SnapshotEncoder.HISTORY];
+    private final int[] receivedSequences = new int[SnapshotEncoder.HISTORY];
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ByteBuf in = msg instanceof ByteBuf ? (ByteBuf) msg : null;
+        if (in == null || !in.isReadable() || in.getByte(in.readerIndex()) != Protocol.SNAPSHOT) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        Snapshot snapshot;
+        int sequence;
+        try {
+            sequence = in.skipBytes(1).readInt();
+            int baseSequence = in.readInt();
+            Snapshot base = null;
+            if (baseSequence != 0) {
+                if (receivedSequences[baseSequence % SnapshotEncoder.HISTORY] != baseSequence) {
+                    throw new IllegalStateException("Snapshot " + sequence + " is based on snapshot " + baseSequence
+                            + ", which is no longer kept");
+                }
+                base = received[baseSequence % SnapshotEncoder.HISTORY];
+            }
+            snapshot = Snapshot.readDelta(in, base);
+        } finally {
+            in.release();
+        }
+        received[sequence % SnapshotEncoder.HISTORY] = snapshot;
+        receivedSequences[sequence % SnapshotEncoder.HISTORY] = sequence;
+        ctx.writeAndFlush(Protocol.message(ctx.alloc(), Protocol.SNAPSHOT_ACK, sequence));
+        ctx.fireChannelRead(snapshot);
+    }
+}
@@ -0,0 +1,63 @@
+package inf112.roborally.game.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Sends the {@link Snapshot}s written to a channel as the fields that changed since the last snapshot the client
+ * has acknowledged, so a client that is up to date gets a few bytes and a new client gets the whole game.
+ * There is one for every channel on the server, placed after the framing.
+ * <p>
+ * The {@link Protocol#SNAPSHOT} message holds the int sequence of the snapshot, the int sequence of the snapshot
+ * it is based on, 0 if it is based on none, and the fields as written by
+ * {@link Snapshot#writeDelta(io.netty.buffer.ByteBuf, Snapshot)}. The client answers with
+ * {@link Protocol#SNAPSHOT_ACK}, which this reads and keeps from the handler.
+ */
+public class SnapshotEncoder extends ChannelDuplexHandler {
+    /**
+     * How many snapshots the client keeps. A snapshot is only used as a base while the client still has it.
+     */
+    public static final int HISTORY = 32;
+
+    private final Snapshot[] sent = new Snapshot[HISTORY];
+    private final int[] sentSequences = new int[HISTORY];
+    private int sequence;
+    private Snapshot acked;
+    private int ackedSequence;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof Snapshot)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        Snapshot snapshot = (Snapshot) msg;
+        sequence++;
+        boolean based = acked != null && sequence - ackedSequence < HISTORY;
+
+        ByteBuf out = Protocol.message(ctx.alloc(), Protocol.SNAPSHOT, sequence);
+        out.writeInt(based ? ackedSequence : 0);
+        snapshot.writeDelta(out, based ? acked : null);
+        sent[sequence % HISTORY] = snapshot;
+        sentSequences[sequence % HISTORY] = sequence;
+        ctx.write(out, promise);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ByteBuf in = msg instanceof ByteBuf ? (ByteBuf) msg : null;
+        if (in == null || !in.isReadable() || in.getByte(in.readerIndex()) != Protocol.SNAPSHOT_ACK) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        int acknowledged = in.skipBytes(1).readInt();
+        in.release();
+        // an older acknowledgement can arrive after a newer one, and a snapshot can be gone from the history
+        if (acknowledged > ackedSequence && sentSequences[acknowledged % HISTORY] == acknowledged) {
+            acked = sent[acknowledged % HISTORY];
+            ackedSequence = acknowledged;
+        }
+    }
+}
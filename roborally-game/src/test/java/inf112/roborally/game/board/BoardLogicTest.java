@@ -1,6 +1,7 @@
 package inf112.roborally.game.board;
 
 import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.enums.GameSpeed;
 import inf112.roborally.game.enums.GameState;
 import inf112.roborally.game.enums.PlayerState;
 import inf112.roborally.game.player.Player;
@@ -60,19 +61,15 @@ public class BoardLogicTest {
             boardLogic.executeLogic();
             assertEquals(GameState.PICKING_CARDS, boardLogic.getState());
 
-            for (Player player : players) {
-                while (!player.getRegisters().isFull())
-                    player.getRegisters().placeCard(0);
-                player.setPlayerState(PlayerState.READY);
-            }
+            pickCards();
 
             for(int phase = 0; phase < 5; phase++) {
-                boardLogic.executeLogic();
+                boardLogic.update(0);
+                assertEquals(GameState.ROUND, boardLogic.getState());
+                boardLogic.update(0);
                 assertEquals(GameState.ROUND, boardLogic.getState());
-                boardLogic.executeLogic();
-                boardLogic.executeLogic();
-                boardLogic.executeLogic();
-                boardLogic.executeLogic();
+                boardLogic.update(1);
+                boardLogic.update(1);
                 assertEquals(GameState.BOARD_MOVES, boardLogic.getState());
             }
             boardLogic.executeLogic();
@@ -80,4 +77,36 @@ public class BoardLogicTest {
 
         }
     }
+
+    @Test
+    public void cardsWaitForTheClock() {
+        boardLogic.executeLogic();
+        pickCards();
+        boardLogic.update(0);
+        float step = BoardLogic.SECONDS_BETWEEN_CARDS / boardLogic.getGameSpeed().getMultiplier();
+        boardLogic.update(step / 2);
+        boardLogic.update(step / 4);
+        assertEquals(GameState.ROUND, boardLogic.getState());
+        boardLogic.update(step / 2); // the first card is played
+        assertEquals(GameState.ROUND, boardLogic.getState());
+        boardLogic.update(step * 1.5f);
+        assertEquals(GameState.BOARD_MOVES, boardLogic.getState());
+    }
+
+    @Test
+    public void instantSpeedPlaysTheWholeRoundAtOnce() {
+        boardLogic.setGameSpeed(GameSpeed.INSTANT);
+        boardLogic.executeLogic();
+        pickCards();
+        boardLogic.update(0);
+        assertEquals(GameState.BETWEEN_ROUNDS, boardLogic.getState());
+    }
+
+    private void pickCards() {
+        for (Player player : players) {
+            while (!player.getRegisters().isFull())
+                player.getRegisters().placeCard(0);
+            player.setPlayerState(PlayerState.READY);
+        }
+    }
 }
@@ -1,24 +1,24 @@
 package inf112.roborally.game.player;
 
 import inf112.roborally.game.enums.PlayerState;
+import inf112.roborally.game.tools.GameRandom;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.PriorityQueue;
-import java.util.Stack;
 
 import static org.junit.Assert.*;
 
 public class PlayerTest {
     private Player player;
-    private Stack<ProgramCard> stack;
+    private ProgramCardDeck deck;
 
     @Before
     public void setup() {
 
         player = new Player(0, 0, 1);
-        stack = ProgramCard.makeProgramCardDeck();
+        deck = new ProgramCardDeck(new GameRandom(1));
     }
 
     @Test
@@ -110,7 +110,7 @@ public class PlayerTest {
     public void noLockedRegistersReturnsAllCards() {
         for (int i = 0; i < 9; i++) {
             // Player is given nine cards:
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
             if (i < 5)
                 // Player puts the five first in registers:
                 player.getRegisters().placeCard(0);
@@ -128,7 +128,7 @@ public class PlayerTest {
     public void lockedCardsAreNotReturned() {
         for (int i = 0; i < 9; i++) {
             // Player is given nine cards:
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
             if (i < 5)
                 // Player puts the five first in registers:
                 player.getRegisters().placeCard(0);
@@ -151,7 +151,7 @@ public class PlayerTest {
     public void lockedCardsAreNotReturned2() {
         for (int i = 0; i < 9; i++) {
             // Player is given nine cards:
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
             if (i < 5)
                 // Player puts the five first in registers:
                 player.getRegisters().placeCard(0);
@@ -180,9 +180,9 @@ public class PlayerTest {
         Player p3 = new Player(0, 0, 1);
         // give them five cards each:
         for (int i = 0; i < 5; i++) {
-            p1.getHand().receiveCard(stack.pop());
-            p2.getHand().receiveCard(stack.pop());
-            p3.getHand().receiveCard(stack.pop());
+            p1.getHand().receiveCard(deck.deal());
+            p2.getHand().receiveCard(deck.deal());
+            p3.getHand().receiveCard(deck.deal());
         }
         // have them all pick the first card and place it in a register:
         p1.getRegisters().placeCard(0);
@@ -265,7 +265,7 @@ public class PlayerTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void negativeIndexShouldThrowIndexOutOfBounds() {
-        player.getHand().receiveCard(stack.pop());
+        player.getHand().receiveCard(deck.deal());
         player.getHand().removeCard(-1);
     }
 
@@ -307,14 +307,14 @@ public class PlayerTest {
     @Test
     public void checkIfHandIsFull() {
         for (int i = 0; i < player.getCardLimit(); i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
         assertTrue(player.getHand().isFull());
     }
 
     @Test
     public void handIsNotFull() {
         for (int i = 0; i < player.getCardLimit() - 1; i++) {
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
             assertFalse(player.getHand().isFull());
         }
     }
@@ -322,7 +322,7 @@ public class PlayerTest {
     @Test
     public void getCardInHandReturnsCorrectCards() {
         for (int i = 0; i < player.getCardLimit(); i++) {
-            ProgramCard card = stack.pop();
+            ProgramCard card = deck.deal();
             player.getHand().receiveCard(card);
             assertEquals(card, player.getHand().getCard(i));
         }
@@ -1,22 +1,22 @@
 package inf112.roborally.game.player;
 
+import inf112.roborally.game.tools.GameRandom;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Stack;
 
 import static junit.framework.TestCase.*;
 
 public class ProgramRegisterTest {
     ProgramRegisters programRegisters;
-    Stack<ProgramCard> stack;
+    ProgramCardDeck deck;
     private Player player;
 
     @Before
     public void setup(){
         player = new Player(0,0, 1);
         programRegisters = player.getRegisters();
-        stack = ProgramCard.makeProgramCardDeck();
+        deck = new ProgramCardDeck(new GameRandom(1));
     }
 
     @Test
@@ -49,18 +49,18 @@ public class ProgramRegisterTest {
 
     @Test
     public void receiveCard_AddsOneCardToCardsInHand(){
-        player.getHand().receiveCard(stack.pop());
+        player.getHand().receiveCard(deck.deal());
         assertEquals(1, player.getHand().size());
     }
 
     @Test
     public void PlayerDoesNotReceiveACardIfHandIsFull(){
         for(int i = 0; i < player.getCardLimit(); i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
 
         assertEquals(ProgramRegisters.MAX_NUMBER_OF_CARDS, player.getHand().size());
 
-        player.getHand().receiveCard(stack.pop());
+        player.getHand().receiveCard(deck.deal());
         assertEquals(ProgramRegisters.MAX_NUMBER_OF_CARDS, player.getHand().size());
     }
 
@@ -87,7 +87,7 @@ public class ProgramRegisterTest {
     @Test
     public void returnCards_ReturnsAllCards(){
         for(int i = 0; i < 9; i++){
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
         }
         assertEquals(9, player.returnCards().size());
     }
@@ -95,7 +95,7 @@ public class ProgramRegisterTest {
     @Test
     public void returnCards_ReturnsAllCardsWhenNoRegistersAreLocked(){
         for(int i = 0; i < 9; i++){
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
         }
         for(int i = 0; i < 5; i++)
             programRegisters.placeCard(i);
@@ -106,7 +106,7 @@ public class ProgramRegisterTest {
     @Test
     public void returnCards_ReturnsFourCardsWhenFiveRegistersAreLocked(){
         for(int i = 0; i < 9; i++){
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
         }
         for(int i = 0; i < 5; i++)
             programRegisters.placeCard(0);
@@ -118,7 +118,7 @@ public class ProgramRegisterTest {
     @Test
     public void returnCardsReturns_8CardsWhenOneRegistersAreLocked(){
         for(int i = 0; i < 9; i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
 
         for(int i = 0; i < 5; i++)
             programRegisters.placeCard(0);
@@ -130,7 +130,7 @@ public class ProgramRegisterTest {
     @Test
     public void registerIsFull_ReturnsTrueWhenFull(){
         for(int i = 0; i < 9; i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
 
         for(int i = 0; i < 5; i++)
             player.getRegisters().placeCard(0);
@@ -141,7 +141,7 @@ public class ProgramRegisterTest {
     @Test
     public void registerIsFull_ReturnsFalseWhenNotFull(){
         for(int i = 0; i < 9; i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
 
         for(int i = 0; i < 1; i++)
             player.getRegisters().placeCard(0);
@@ -152,7 +152,7 @@ public class ProgramRegisterTest {
     @Test
     public void registerIsFull_ReturnsFalseWhenCalling_returnCards_AfterRegisterBeingFull(){
         for(int i = 0; i < 9; i++)
-            player.getHand().receiveCard(stack.pop());
+            player.getHand().receiveCard(deck.deal());
 
         for(int i = 0; i < 5; i++)
             player.getRegisters().placeCard(0);
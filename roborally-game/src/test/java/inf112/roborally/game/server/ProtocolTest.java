@@ -0,0 +1,145 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.board.RoundRecord;
+import inf112.roborally.game.board.StateArena;
+import inf112.roborally.game.player.ProgramCard;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ProtocolTest {
+
+    private EmbeddedChannel framedChannel() {
+        return new EmbeddedChannel(new ChannelInitializer<EmbeddedChannel>() {
+            @Override
+            protected void initChannel(EmbeddedChannel channel) {
+                Protocol.addFraming(channel.pipeline());
+            }
+        });
+    }
+
+    /**
+     * @return what the framing puts on the wire for the message
+     */
+    private ByteBuf send(ByteBuf message) {
+        EmbeddedChannel channel = framedChannel();
+        channel.writeOutbound(message);
+        ByteBuf wire = Unpooled.buffer();
+        for (ByteBuf part = channel.readOutbound(); part != null; part = channel.readOutbound()) {
+            wire.writeBytes(part);
+            part.release();
+        }
+        return wire;
+    }
+
+    @Test
+    public void messagesThatArriveTogetherAreReadOneByOne() {
+        ByteBuf wire = Unpooled.buffer();
+        wire.writeBytes(send(Protocol.message(ByteBufAllocator.DEFAULT, Protocol.POWER_DOWN, 3)));
+        wire.writeBytes(send(Protocol.message(ByteBufAllocator.DEFAULT, Protocol.SET_MAP)));
+        EmbeddedChannel channel = framedChannel();
+
+        channel.writeInbound(wire);
+
+        ByteBuf powerDown = channel.readInbound();
+        assertEquals(Protocol.POWER_DOWN, powerDown.readByte());
+        assertEquals(3, powerDown.readInt());
+        assertEquals(0, powerDown.readableBytes());
+        ByteBuf setMap = channel.readInbound();
+        assertEquals(Protocol.SET_MAP, setMap.readByte());
+        assertEquals(0, setMap.readableBytes());
+        powerDown.release();
+        setMap.release();
+    }
+
+    @Test
+    public void halfAMessageWaitsForTheRest() {
+        ByteBuf wire = send(Protocol.message(ByteBufAllocator.DEFAULT, Protocol.DIED, 1));
+        EmbeddedChannel channel = framedChannel();
+
+        channel.writeInbound(wire.readRetainedSlice(3));
+        assertNull(channel.readInbound());
+        channel.writeInbound(wire);
+
+        ByteBuf died = channel.readInbound();
+        assertEquals(Protocol.DIED, died.readByte());
+        assertEquals(1, died.readInt());
+        died.release();
+    }
+
+    @Test
+    public void namesAndCardsSurviveTheTrip() {
+        ByteBuf out = Protocol.message(ByteBufAllocator.DEFAULT, Protocol.START, 2);
+        Protocol.writeName(out, "Bjørn");
+        Protocol.writeCard(out, ProgramCard.fromId(17));
+
+        assertEquals(Protocol.START, out.readByte());
+        assertEquals(2, out.readInt());
+        assertEquals("Bjørn", Protocol.readName(out));
+        assertSame(ProgramCard.fromId(17), Protocol.readCard(out));
+        out.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cardsThatAreNotInTheDeckCanNotBeSent() {
+        ByteBuf out = Unpooled.buffer();
+        Protocol.writeCard(out, ProgramCard.valueOf("NONE", "1", "15"));
+    }
+
+    @Test
+    public void roundSurvivesTheTripWithoutTheRegisters() {
+        RoundRecord round = new RoundRecord(2, RoundRecord.maxSteps(2));
+        int step = round.addStep(0, 1);
+        round.getStates().set(step, StateArena.X, 1, -1);
+        round.getStates().set(step, StateArena.BACKUP_Y, 0, 11);
+        round.getStates().set(step, StateArena.REGISTER, 0, ProgramCard.fromId(3).pack());
+        round.addEvent(round.getSteps(), RoundRecord.SHOT, 0, 1);
+        round.addStep(0, RoundRecord.BOARD_MOVES);
+        ByteBuf out = Unpooled.buffer();
+
+        Protocol.writeRound(out, round);
+        RoundRecord read = Protocol.readRound(out);
+
+        assertEquals(2, read.getSteps());
+        assertEquals(1, read.getActor(0));
+        assertEquals(RoundRecord.BOARD_MOVES, read.getActor(1));
+        assertEquals(-1, read.getStates().get(0, StateArena.X, 1));
+        assertEquals(11, read.getStates().get(0, StateArena.BACKUP_Y, 0));
+        assertEquals(0, read.getStates().get(0, StateArena.REGISTER, 0));
+        assertEquals(1, read.getEventCount());
+        assertEquals(1, read.getEventStep(0));
+        assertEquals(RoundRecord.SHOT, read.getEventType(0));
+        assertEquals(1, read.getEventOther(0));
+        assertEquals(0, out.readableBytes());
+    }
+
+    @Test
+    public void roundOfABigGameIsNotCutShort() {
+        int robots = 60;
+        RoundRecord round = new RoundRecord(robots, RoundRecord.maxSteps(robots));
+        for (int i = 0; i < RoundRecord.maxSteps(robots); i++) {
+            round.addStep(i / (robots + 1), i % (robots + 1));
+        }
+        int last = round.getSteps() - 1;
+        round.getStates().set(last, StateArena.X, robots - 1, 300);
+        round.addEvent(last, RoundRecord.SHOT, robots - 1, robots - 2);
+        ByteBuf out = Unpooled.buffer();
+
+        Protocol.writeRound(out, round);
+        RoundRecord read = Protocol.readRound(out);
+
+        assertEquals(RoundRecord.maxSteps(robots), read.getSteps());
+        assertEquals(robots, read.getActor(robots));
+        assertEquals(300, read.getStates().get(last, StateArena.X, robots - 1));
+        assertEquals(last, read.getEventStep(0));
+        assertEquals(robots - 1, read.getEventRobot(0));
+        assertEquals(0, out.readableBytes());
+    }
+}
@@ -0,0 +1,79 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.board.RulesBoard;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.objects.Flag;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.simulation.RoundResolver;
+import inf112.roborally.game.tools.GameRandom;
+import io.netty.buffer.ByteBuf;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ServerGameTest {
+    private ServerGame serverGame;
+
+    @Before
+    public void setup() {
+        RulesBoard<Robot> board = new RulesBoard<>();
+        board.createBoard("../assets/maps/vault.tmx");
+        board.getFlags().add(new Flag(7, 7, 1));
+        for (int i = 0; i < 2; i++) {
+            board.addPlayer(new Robot("Robot" + (i + 1), Direction.NORTH, board));
+        }
+        board.placePlayers();
+        serverGame = new ServerGame(new GameRandom(3));
+        serverGame.start(new RoundResolver(board, board.getPlayers()));
+        serverGame.join();
+        serverGame.join();
+    }
+
+    private void assertRoundIsPlayed(List<Object> messages) {
+        assertEquals(2, messages.size());
+        ByteBuf round = (ByteBuf) messages.get(0);
+        assertEquals(Protocol.ROUND, round.readByte());
+        round.release();
+        assertTrue(messages.get(1) instanceof Snapshot);
+    }
+
+    @Test
+    public void roundIsPlayedWhenTheLastPlayerIsReady() {
+        assertTrue(serverGame.ready().isEmpty());
+        assertRoundIsPlayed(serverGame.ready());
+        assertTrue(serverGame.ready().isEmpty()); // counting starts over
+    }
+
+    @Test
+    public void roundIsPlayedWhenTheOnlyPlayerNotReadyLeaves() {
+        assertTrue(serverGame.ready().isEmpty());
+        assertRoundIsPlayed(serverGame.leave(1));
+    }
+
+    @Test
+    public void everyHandIsDealtFromTheSameDeck() {
+        HashSet<ProgramCard> dealt = new HashSet<>();
+        dealt.addAll(serverGame.deal(0, 9));
+        dealt.addAll(serverGame.deal(1, 9));
+
+        assertEquals(18, dealt.size());
+        assertEquals(18, serverGame.snapshot().getDeckCursor());
+    }
+
+    @Test
+    public void cardsGoBackToTheDeckBeforeTheNextHand() {
+        serverGame.deal(0, 9);
+        serverGame.deal(1, 9);
+        serverGame.ready();
+        serverGame.ready();
+
+        serverGame.deal(0, 9);
+        assertEquals(9, serverGame.snapshot().getReturnedCards()); // player 1 has not asked for cards yet
+    }
+}
@@ -0,0 +1,92 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.tools.GameRandom;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ServerHandlerTest {
+    private RoboRallyGame game;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setup() {
+        game = new RoboRallyGame();
+        game.playerNames = new ArrayList<>();
+        channel = new EmbeddedChannel(new ServerHandler(game, new ServerGame(new GameRandom(1))));
+    }
+
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    private void handshake(byte version, String name) {
+        ByteBuf handshake = Protocol.message(ByteBufAllocator.DEFAULT, Protocol.HANDSHAKE);
+        handshake.writeByte(version);
+        Protocol.writeName(handshake, name);
+        channel.writeInbound(handshake);
+    }
+
+    private ByteBuf readOutbound(byte opcode) {
+        ByteBuf message = channel.readOutbound();
+        assertEquals(opcode, message.readByte());
+        return message;
+    }
+
+    @Test
+    public void handshakeGivesThePlayerAnId() {
+        handshake(Protocol.VERSION, "host");
+        handshake(Protocol.VERSION, "guest");
+
+        ByteBuf reply = readOutbound(Protocol.HANDSHAKE);
+        assertEquals(Protocol.VERSION, reply.readByte());
+        assertEquals(0, reply.readInt());
+        reply.release();
+        readOutbound(Protocol.CONNECTED).release();
+        reply = readOutbound(Protocol.HANDSHAKE);
+        reply.readByte();
+        assertEquals(1, reply.readInt());
+        reply.release();
+        assertEquals("guest", game.playerNames.get(1));
+    }
+
+    @Test
+    public void clientWithAnotherVersionIsTurnedAway() {
+        handshake((byte) (Protocol.VERSION - 1), "old");
+
+        ByteBuf rejected = readOutbound(Protocol.REJECTED);
+        assertEquals(Protocol.VERSION, rejected.readByte());
+        rejected.release();
+        assertFalse(channel.isOpen());
+        assertEquals(0, game.playerNames.size());
+    }
+
+    @Test
+    public void wholeHandIsDealtInOneMessage() {
+        handshake(Protocol.VERSION, "host");
+        readOutbound(Protocol.HANDSHAKE).release();
+        readOutbound(Protocol.CONNECTED).release();
+
+        ByteBuf request = Protocol.message(ByteBufAllocator.DEFAULT, Protocol.REQUEST_CARDS, 0);
+        request.writeByte(9);
+        channel.writeInbound(request);
+
+        ByteBuf deal = readOutbound(Protocol.DEAL);
+        assertEquals(0, deal.readInt());
+        assertEquals(9, Protocol.readCards(deal).size());
+        assertEquals(0, deal.readableBytes());
+        deal.release();
+        assertNull(channel.readOutbound());
+    }
+}
@@ -0,0 +1,152 @@
+package inf112.roborally.game.server;
+
+import inf112.roborally.game.RoboRallyGame;
+import inf112.roborally.game.enums.Direction;
+import inf112.roborally.game.player.ProgramCard;
+import inf112.roborally.game.player.ProgramCardDeck;
+import inf112.roborally.game.player.Robot;
+import inf112.roborally.game.tools.GameRandom;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotTest {
+    private EmbeddedChannel server;
+    private EmbeddedChannel client;
+    private List<Robot> robots;
+
+    @Before
+    public void setup() {
+        server = new EmbeddedChannel(new SnapshotEncoder());
+        client = new EmbeddedChannel(new SnapshotDecoder());
+        robots = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Robot robot = new Robot(i, 2 * i, 3);
+            robot.getRegisters().placeCard(ProgramCard.fromId(10 + i));
+            robots.add(robot);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        server.finishAndReleaseAll();
+        client.finishAndReleaseAll();
+    }
+
+    /**
+     * Sends the snapshot from the server to the client, and the client's acknowledgement back if it should.
+     *
+     * @return how many bytes the snapshot took
+     */
+    private int send(Snapshot snapshot, boolean acknowledge) {
+        server.writeOutbound(snapshot);
+        ByteBuf frame = server.readOutbound();
+        int size = frame.readableBytes();
+        client.writeInbound(frame);
+        assertEquals(snapshot, client.readInbound());
+        ByteBuf ack = client.readOutbound();
+        if (acknowledge) server.writeInbound(ack);
+        else ack.release();
+        return size;
+    }
+
+    @Test
+    public void varIntsSurviveTheTrip() {
+        ByteBuf out = Unpooled.buffer();
+        int[] values = {0, 1, -1, 63, -64, 64, 300, ProgramCard.fromId(83).pack(), Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : values) {
+            Protocol.writeVarInt(out, value);
+        }
+        for (int value : values) {
+            assertEquals(value, Protocol.readVarInt(out));
+        }
+        Protocol.writeVarInt(out, -64);
+        assertEquals(1, out.readableBytes());
+    }
+
+    @Test
+    public void acknowledgedSnapshotMakesTheNextOneSmall() {
+        int whole = send(Snapshot.capture(robots), true);
+        robots.get(2).setDirection(Direction.SOUTH);
+        robots.get(3).takeDamage();
+
+        int changes = send(Snapshot.capture(robots), true);
+
+        assertTrue(changes + " bytes of changes, " + whole + " for the whole game", changes < whole / 2);
+        assertNull(server.readInbound()); // the acknowledgements do not go on to the handler
+    }
+
+    @Test
+    public void deckIsSentWithTheRobots() {
+        ProgramCardDeck deck = new ProgramCardDeck(new GameRandom(2));
+        for (int i = 0; i < 9; i++) {
+            deck.deal();
+        }
+        Snapshot dealt = Snapshot.capture(robots, deck);
+        assertNotEquals(Snapshot.capture(robots), dealt);
+        send(dealt, true);
+
+        deck.returnCard(ProgramCard.fromId(4));
+        Snapshot returned = Snapshot.capture(robots, deck);
+        assertNotEquals(dealt, returned);
+        send(returned, true); // the robots are the same, only the deck is new
+        assertEquals(9, returned.getDeckCursor());
+        assertEquals(1, returned.getReturnedCards());
+    }
+
+    @Test
+    public void snapshotIsWholeAgainUntilTheClientAcknowledges() {
+        send(Snapshot.capture(robots), false);
+
+        server.writeOutbound(Snapshot.capture(robots));
+        ByteBuf frame = server.readOutbound();
+
+        assertEquals(2, frame.getInt(1)); // sequence
+        assertEquals(0, frame.getInt(5)); // based on no snapshot
+        frame.release();
+    }
+
+    @Test
+    public void appliedSnapshotGivesTheSameRobots() {
+        robots.get(1).takeDamage();
+        robots.get(1).visitFlag(1);
+        robots.get(2).setDirection(Direction.WEST);
+        Snapshot snapshot = Snapshot.capture(robots);
+        List<Robot> copies = new ArrayList<>();
+        for (int i = 0; i < robots.size(); i++) {
+            copies.add(new Robot(0, 0, 3));
+        }
+
+        snapshot.apply(copies);
+
+        assertEquals(snapshot, Snapshot.capture(copies));
+        assertEquals(robots.get(1).getDamage(), copies.get(1).getDamage());
+        assertEquals(ProgramCard.fromId(12), copies.get(2).getRegisters().getCard(0));
+    }
+
+    @Test
+    public void snapshotBeforeTheGameStartsIsKeptForIt() {
+        RoboRallyGame game = new RoboRallyGame();
+        game.client = new Client("localhost", 8000, game, "late");
+        EmbeddedChannel joining = new EmbeddedChannel(new SnapshotDecoder(), new ClientHandler(game));
+        Snapshot snapshot = Snapshot.capture(robots);
+        server.writeOutbound(snapshot);
+
+        joining.writeInbound((ByteBuf) server.readOutbound());
+
+        assertEquals(snapshot, game.client.takeSnapshot());
+        assertNull(game.client.takeSnapshot());
+        joining.finishAndReleaseAll();
+    }
+}
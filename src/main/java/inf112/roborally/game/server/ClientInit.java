@@ -1,33 +0,0 @@
-package inf112.roborally.game.server;
-
-import inf112.roborally.game.RoboRallyGame;
-import io.netty.channel.ChannelInitializer;
-import io.netty.channel.ChannelPipeline;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.handler.codec.DelimiterBasedFrameDecoder;
-import io.netty.handler.codec.Delimiters;
-import io.netty.handler.codec.serialization.ClassResolver;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ObjectEncoder;
-import io.netty.handler.codec.string.StringDecoder;
-import io.netty.handler.codec.string.StringEncoder;
-
-@SuppressWarnings("Duplicates")
-public class ClientInit extends ChannelInitializer<SocketChannel> {
-    private final RoboRallyGame game;
-
-    public ClientInit(RoboRallyGame game){
-        this.game = game;
-    }
-
-    @Override
-    protected void initChannel(SocketChannel arg0) throws Exception {
-        ChannelPipeline pipeline = arg0.pipeline();
-
-        pipeline.addLast("framer", new DelimiterBasedFrameDecoder(8192, Delimiters.lineDelimiter()));
-        pipeline.addLast("decoder", new StringDecoder());
-        pipeline.addLast("encoder", new StringEncoder());
-        pipeline.addLast("handler", new ClientHandler(game));
-    }
-}